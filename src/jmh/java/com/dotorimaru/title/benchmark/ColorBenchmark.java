@@ -0,0 +1,44 @@
+package com.dotorimaru.title.benchmark;
+
+import com.dotorimaru.title.cache.TitleRenderCache;
+import com.dotorimaru.title.utils.ColorUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 색상 변환 / 칭호 렌더링 벤치마크
+ * - colorize: 메시지 출력 경로 (TitlePlugin.colorize)
+ * - formatTitleUncached: 렌더링 캐시 미스 시 비용
+ * - formatTitleCached: TitleManager.formatTitle (렌더링 캐시 적중)
+ */
+@State(Scope.Benchmark)
+public class ColorBenchmark {
+
+    private static final String MESSAGE = "&8[&6칭호&8] &a칭호 &#FF5733전설의 용사&a를 획득했습니다!";
+    private static final String TITLE = "&c&l#FF5733전설의 &e용사";
+
+    private TitleRenderCache renderCache;
+
+    @Setup
+    public void setup() {
+        renderCache = new TitleRenderCache();
+        renderCache.get(TITLE);
+    }
+
+    @Benchmark
+    public String colorize() {
+        return ColorUtils.colorize(MESSAGE);
+    }
+
+    @Benchmark
+    public String formatTitleUncached() {
+        return ColorUtils.formatTitle(TITLE);
+    }
+
+    @Benchmark
+    public String formatTitleCached() {
+        return renderCache.get(TITLE).formatted();
+    }
+}
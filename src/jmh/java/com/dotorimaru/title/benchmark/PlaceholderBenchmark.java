@@ -0,0 +1,95 @@
+package com.dotorimaru.title.benchmark;
+
+import com.dotorimaru.title.database.TitleCatalog;
+import com.dotorimaru.title.database.TitleStorage;
+import com.dotorimaru.title.managers.TitleManager;
+import com.dotorimaru.title.models.OwnedTitles;
+import com.dotorimaru.title.placeholders.BenchmarkPlaceholders;
+import com.dotorimaru.title.placeholders.TitlePlaceholder;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+
+/**
+ * PlaceholderAPI 요청 벤치마크 (로컬 캐시가 채워진 상태)
+ * 서버 없이 실행하기 위해 TitleManager는 저장소 없이 만들고 캐시만 채움 (칭호 목록은 직접 등록)
+ * 플레이스홀더는 플러그인 없이 생성 (메인 스레드 감시는 꺼진 상태)
+ * (start()를 호출하지 않으므로 Redis/MySQL 접근 없음)
+ */
+@State(Scope.Benchmark)
+public class PlaceholderBenchmark {
+
+    private static final int PLAYERS = 200;
+
+    private TitlePlaceholder placeholder;
+    private Player[] players;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        TitleCatalog catalog = new TitleCatalog("title_catalog");
+        for (int id = 1; id <= 50; id++) {
+            catalog.register(id, "&a#FF5733칭호" + (id - 1));
+        }
+
+        TitleManager titleManager = new TitleManager(null, null, null, catalog);
+        players = new Player[PLAYERS];
+
+        for (int i = 0; i < PLAYERS; i++) {
+            UUID uuid = UUID.randomUUID();
+            int[] ids = new int[20];
+            long[] times = new long[20];
+            for (int j = 0; j < 20; j++) {
+                ids[j] = (i + j) % 50 + 1;
+                times[j] = j;
+            }
+            int selected = i % 4 == 0 ? 0 : i % 50 + 1;
+            titleManager.pinCache(uuid);
+            titleManager.cachePlayerData(uuid, new TitleStorage.PlayerTitleData(OwnedTitles.of(ids, times, 20), selected, 1L));
+            players[i] = player(uuid);
+        }
+
+        placeholder = BenchmarkPlaceholders.create(titleManager);
+    }
+
+    private Player nextPlayer() {
+        int index = cursor + 1;
+        if (index == PLAYERS) index = 0;
+        cursor = index;
+        return players[index];
+    }
+
+    @Benchmark
+    public String title() {
+        return placeholder.onPlaceholderRequest(nextPlayer(), "title");
+    }
+
+    @Benchmark
+    public String titleRaw() {
+        return placeholder.onPlaceholderRequest(nextPlayer(), "title_raw");
+    }
+
+    @Benchmark
+    public String titleCount() {
+        return placeholder.onPlaceholderRequest(nextPlayer(), "title_count");
+    }
+
+    /**
+     * getUniqueId만 응답하는 Player (서버 없이 사용)
+     */
+    private static Player player(UUID uuid) {
+        return (Player) Proxy.newProxyInstance(Player.class.getClassLoader(), new Class<?>[]{Player.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getUniqueId" -> uuid;
+                    case "hashCode" -> uuid.hashCode();
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "BenchmarkPlayer(" + uuid + ")";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,77 @@
+package com.dotorimaru.title.benchmark;
+
+import com.dotorimaru.title.database.TitleStorage;
+import com.dotorimaru.title.models.OwnedTitles;
+import com.dotorimaru.title.models.Title;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 보유 칭호 직렬화 벤치마크
+ * - legacyGsonRoundTrip: 구버전 title:titles:{uuid} JSON 캐시 (Gson + TypeToken, 이름 → Title 객체)
+ * - hashRoundTrip: 현재 title:p:{uuid} 해시 필드 인코딩/디코딩 (36진수 칭호 ID → OwnedTitles)
+ */
+@State(Scope.Benchmark)
+public class StorageCodecBenchmark {
+
+    private static final Type TITLES_TYPE = new TypeToken<Map<String, Title>>(){}.getType();
+
+    @Param({"10", "100"})
+    public int titleCount;
+
+    private final Gson gson = new Gson();
+
+    private Map<String, Title> legacyTitles;
+    private TitleStorage.PlayerTitleData data;
+    private String legacyJson;
+    private Map<String, String> hashFields;
+
+    @Setup
+    public void setup() {
+        legacyTitles = new HashMap<>();
+        int[] ids = new int[titleCount];
+        long[] times = new long[titleCount];
+        for (int i = 0; i < titleCount; i++) {
+            String titleName = "&a#FF5733칭호" + i;
+            legacyTitles.put(titleName, Title.builder()
+                    .titleName(titleName)
+                    .obtainedAt(1_700_000_000_000L + i)
+                    .build());
+            ids[i] = i + 1;
+            times[i] = 1_700_000_000_000L + i;
+        }
+
+        data = new TitleStorage.PlayerTitleData(OwnedTitles.of(ids, times, titleCount), 1, 42L);
+        legacyJson = gson.toJson(legacyTitles);
+        hashFields = TitleStorage.encodeHash(data);
+    }
+
+    @Benchmark
+    public Map<String, Title> legacyGsonDecode() {
+        return gson.fromJson(legacyJson, TITLES_TYPE);
+    }
+
+    @Benchmark
+    public Map<String, Title> legacyGsonRoundTrip() {
+        return gson.fromJson(gson.toJson(legacyTitles), TITLES_TYPE);
+    }
+
+    @Benchmark
+    public TitleStorage.PlayerTitleData hashDecode() {
+        return TitleStorage.decodeHash(hashFields, 42L);
+    }
+
+    @Benchmark
+    public TitleStorage.PlayerTitleData hashRoundTrip() {
+        return TitleStorage.decodeHash(TitleStorage.encodeHash(data), 42L);
+    }
+}
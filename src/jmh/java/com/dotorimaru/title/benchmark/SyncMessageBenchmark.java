@@ -0,0 +1,68 @@
+package com.dotorimaru.title.benchmark;
+
+import com.dotorimaru.title.database.TitleSyncPublisher;
+import com.dotorimaru.title.models.TitleSyncEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 동기화 메시지 처리 벤치마크 (TitleManager.setupRedisSync 수신 경로)
+ * - parse: 이벤트 하나 파싱
+ * - parseLegacy: 구버전 형식 파싱
+ * - splitAndParseBatch: 묶음 메시지 분리 후 전부 파싱
+ * - encode: 발행 시 직렬화
+ */
+@State(Scope.Benchmark)
+public class SyncMessageBenchmark {
+
+    private static final int BATCH_SIZE = 32;
+
+    private TitleSyncEvent event;
+    private String message;
+    private String legacyMessage;
+    private String batchMessage;
+
+    @Setup
+    public void setup() {
+        UUID uuid = UUID.randomUUID();
+        event = new TitleSyncEvent(TitleSyncEvent.Action.ADD, uuid, 17L, 1_700_000_000_000L, "&c&l전설의 용사");
+        message = event.encode();
+        legacyMessage = "title-add:" + uuid + ":&c&l전설의 용사";
+
+        List<String> events = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            events.add(new TitleSyncEvent(TitleSyncEvent.Action.values()[i % 3], UUID.randomUUID(),
+                    i, 1_700_000_000_000L + i, "칭호" + i).encode());
+        }
+        batchMessage = TitleSyncPublisher.BATCH_PREFIX + String.join("\n", events);
+    }
+
+    @Benchmark
+    public TitleSyncEvent parse() {
+        return TitleSyncEvent.parse(message);
+    }
+
+    @Benchmark
+    public TitleSyncEvent parseLegacy() {
+        return TitleSyncEvent.parse(legacyMessage);
+    }
+
+    @Benchmark
+    public void splitAndParseBatch(Blackhole blackhole) {
+        for (String part : TitleSyncPublisher.split(batchMessage)) {
+            blackhole.consume(TitleSyncEvent.parse(part));
+        }
+    }
+
+    @Benchmark
+    public String encode() {
+        return event.encode();
+    }
+}
@@ -0,0 +1,17 @@
+package com.dotorimaru.title.placeholders;
+
+import com.dotorimaru.title.managers.TitleManager;
+import com.dotorimaru.title.metrics.TickBudgetWatchdog;
+
+/**
+ * 벤치마크용 TitlePlaceholder 생성 (플러그인 없이, 메인 스레드 감시는 꺼진 상태)
+ */
+public final class BenchmarkPlaceholders {
+
+    private BenchmarkPlaceholders() {
+    }
+
+    public static TitlePlaceholder create(TitleManager titleManager) {
+        return new TitlePlaceholder(titleManager, TickBudgetWatchdog.disabled(), "benchmark");
+    }
+}
@@ -8,12 +8,18 @@ import com.dotorimaru.title.commands.TitleCommand;
 import com.dotorimaru.title.database.TitleMySQLManager;
 import com.dotorimaru.title.database.TitleRedisManager;
 import com.dotorimaru.title.database.TitleStorage;
+import com.dotorimaru.title.gui.TitleItemCache;
 import com.dotorimaru.title.listeners.PlayerJoinListener;
 import com.dotorimaru.title.listeners.TitleBookUseListener;
 import com.dotorimaru.title.listeners.TitleGUIListener;
 import com.dotorimaru.title.managers.TitleBookManager;
 import com.dotorimaru.title.managers.TitleManager;
+import com.dotorimaru.title.metrics.TickBudgetWatchdog;
+import com.dotorimaru.title.metrics.TitleMetrics;
+import com.dotorimaru.title.metrics.TitleMetricsBindings;
+import com.dotorimaru.title.metrics.TitleMetricsServer;
 import com.dotorimaru.title.placeholders.TitlePlaceholder;
+import com.dotorimaru.title.utils.ColorUtils;
 import lombok.Getter;
 import org.bukkit.plugin.java.JavaPlugin;
 
@@ -40,6 +46,23 @@ public final class TitlePlugin extends JavaPlugin {
     private TitleManager titleManager;
     @Getter
     private TitleBookManager titleBookManager;
+    
+    // GUI 아이템 캐시
+    @Getter
+    private TitleItemCache titleItemCache;
+    
+    // 지표 (/칭호관리 stats, Prometheus /metrics)
+    @Getter
+    private TitleMetrics metrics;
+    private TitleMetricsServer metricsServer;
+    
+    // 메인 스레드 시간 예산 감시 (config: watchdog)
+    @Getter
+    private TickBudgetWatchdog tickWatchdog;
+    
+    // 디버그 로그 (config: debug)
+    @Getter
+    private volatile boolean debug;
 
     @Override
     public void onEnable() {
@@ -54,6 +77,8 @@ public final class TitlePlugin extends JavaPlugin {
         
         // Config 로드
         saveDefaultConfig();
+        tickWatchdog = new TickBudgetWatchdog(this);
+        loadSettings();
         
         // 독립 데이터베이스 초기화
         if (!initializeDatabase()) {
@@ -64,6 +89,8 @@ public final class TitlePlugin extends JavaPlugin {
         
         // 매니저 초기화
         initializeManagers();
+        redisManager.getDispatcher().setWatchdog(tickWatchdog);
+        tickWatchdog.start();
         
         // 리스너 등록
         registerListeners();
@@ -74,6 +101,11 @@ public final class TitlePlugin extends JavaPlugin {
         // PlaceholderAPI 등록
         registerPlaceholders();
         
+        // 지표 등록 + 수집 엔드포인트
+        metrics = TitleMetricsBindings.create(this);
+        metricsServer = new TitleMetricsServer(this, metrics);
+        metricsServer.start();
+        
         getLogger().info("✅ 칭호 시스템이 활성화되었습니다!");
     }
 
@@ -115,12 +147,15 @@ public final class TitlePlugin extends JavaPlugin {
     }
 
     private void initializeManagers() {
-        // TitleStorage 생성 (MySQL + Redis)
-        titleStorage = new TitleStorage(this, mySQLManager, redisManager);
-        
-        // TitleManager 생성
+        // TitleManager 생성 (TitleStorage는 initializeDatabase에서 생성됨)
         titleManager = new TitleManager(this, titleStorage, redisManager);
+        titleManager.start();
+        
+        // 리로드 등으로 이미 접속 중인 플레이어는 바로 고정
+        getServer().getOnlinePlayers().forEach(player -> titleManager.pinCache(player.getUniqueId()));
+        titleManager.warmUpOnline();
         titleBookManager = new TitleBookManager(this);
+        titleItemCache = new TitleItemCache(this, titleManager.getRenderCache());
         
         getLogger().info("✅ 매니저 초기화 완료");
     }
@@ -128,7 +163,7 @@ public final class TitlePlugin extends JavaPlugin {
     private void registerListeners() {
         getServer().getPluginManager().registerEvents(new PlayerJoinListener(this), this);
         getServer().getPluginManager().registerEvents(new TitleBookUseListener(this), this);
-        getServer().getPluginManager().registerEvents(new TitleGUIListener(this), this);
+        getServer().getPluginManager().registerEvents(new TitleGUIListener(), this);
         
         getLogger().info("✅ 리스너 등록 완료");
     }
@@ -164,6 +199,23 @@ public final class TitlePlugin extends JavaPlugin {
     public void onDisable() {
         getLogger().info("🛑 칭호 시스템 종료 시작...");
         
+        if (metricsServer != null) {
+            metricsServer.stop();
+        }
+        if (tickWatchdog != null) {
+            tickWatchdog.stop();
+        }
+        
+        // 대기 중인 칭호 쓰기 반영 (MySQL 종료 전)
+        if (titleStorage != null) {
+            titleStorage.shutdown();
+        }
+        
+        // 로컬 캐시를 파일로 남김 (다음 시작 시 첫 조회를 저장소 왕복 없이 처리)
+        if (titleManager != null) {
+            titleManager.saveSnapshot();
+        }
+        
         // 데이터베이스 연결 종료
         if (mySQLManager != null) {
             mySQLManager.disconnect();
@@ -175,6 +227,25 @@ public final class TitlePlugin extends JavaPlugin {
         getLogger().info("✅ 칭호 시스템이 안전하게 종료되었습니다.");
     }
     
+    /**
+     * 플러그인 자체 설정 적용 (시작, 리로드 시)
+     */
+    public void loadSettings() {
+        debug = getConfig().getBoolean("debug", false);
+        if (tickWatchdog != null) {
+            tickWatchdog.configure();
+        }
+    }
+    
+    /**
+     * 디버그 로그 (debug: true일 때만 출력)
+     */
+    public void debug(String message) {
+        if (debug) {
+            getLogger().info("🔍 [DEBUG] " + message);
+        }
+    }
+    
     /**
      * 메시지 전송 유틸리티
      */
@@ -188,30 +259,6 @@ public final class TitlePlugin extends JavaPlugin {
      * 색상 코드 변환 (& → §, RGB 지원)
      */
     public String colorize(String text) {
-        if (text == null) return "";
-        
-        // RGB 색상 지원: &#RRGGBB 형식을 §x§R§R§G§G§B§B로 변환
-        java.util.regex.Pattern pattern = java.util.regex.Pattern.compile("&#([A-Fa-f0-9]{6})");
-        java.util.regex.Matcher matcher = pattern.matcher(text);
-        StringBuffer buffer = new StringBuffer();
-        
-        while (matcher.find()) {
-            String hexCode = matcher.group(1);
-            StringBuilder replacement = new StringBuilder("§x");
-            
-            // 각 문자마다 § 추가
-            for (char c : hexCode.toCharArray()) {
-                replacement.append('§').append(c);
-            }
-            
-            matcher.appendReplacement(buffer, replacement.toString());
-        }
-        matcher.appendTail(buffer);
-        text = buffer.toString();
-        
-        // Legacy 색상 코드: & → §
-        text = text.replace('&', '§');
-        
-        return text;
+        return ColorUtils.colorize(text);
     }
 }
@@ -0,0 +1,215 @@
+package com.dotorimaru.title.cache;
+
+import com.dotorimaru.title.models.OwnedTitles;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * 플레이어별 칭호 상태 로컬 캐시
+ *
+ * - 온라인 플레이어: 고정(pinned) 영역, 제거되지 않음
+ * - 그 외 (접속 종료, 접속 전 예열, 다른 서버 플레이어 조회 등): 크기 제한 영역
+ *   Caffeine W-TinyLFU로 자주 쓰이는 항목을 남기고, 일정 시간 조회가 없으면 만료
+ */
+public class PlayerTitleCache {
+
+    public static final long DEFAULT_MAX_OFFLINE = 1000L;
+    public static final long DEFAULT_EXPIRE_SECONDS = 300L;
+
+    private final Map<UUID, CachedPlayer> pinned = new ConcurrentHashMap<>();
+    private final Set<UUID> online = ConcurrentHashMap.newKeySet();
+    private final Cache<UUID, CachedPlayer> offline = Caffeine.newBuilder()
+            .maximumSize(DEFAULT_MAX_OFFLINE)
+            .expireAfterAccess(Duration.ofSeconds(DEFAULT_EXPIRE_SECONDS))
+            .recordStats()
+            .build();
+
+    // 지표 (두 영역 합계)
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * 캐시된 플레이어 상태 (불변, 변경 시 새 객체로 교체)
+     *
+     * @param selected 선택 칭호 ID (없으면 0)
+     * @param version  마지막으로 반영한 동기화 버전 (title:ver:{uuid})
+     */
+    public record CachedPlayer(OwnedTitles titles, int selected, long version) {
+
+        public CachedPlayer withTitles(UnaryOperator<OwnedTitles> mutation) {
+            // OwnedTitles는 불변이라 복사 없이 새 객체만 받음
+            return new CachedPlayer(mutation.apply(titles), selected, version);
+        }
+
+        public CachedPlayer withSelected(int titleId) {
+            return new CachedPlayer(titles, titleId, version);
+        }
+
+        public CachedPlayer withVersion(long newVersion) {
+            return new CachedPlayer(titles, selected, newVersion);
+        }
+    }
+
+    /**
+     * 크기 제한 영역 설정 변경 (config 로드/리로드 시)
+     */
+    public void configure(long maxOffline, long expireAfterAccessSeconds) {
+        offline.policy().eviction().ifPresent(eviction -> eviction.setMaximum(Math.max(0L, maxOffline)));
+        offline.policy().expireAfterAccess().ifPresent(expiry ->
+                expiry.setExpiresAfter(Duration.ofSeconds(Math.max(1L, expireAfterAccessSeconds))));
+    }
+
+    /**
+     * 조회 (적중/미스 집계)
+     */
+    public CachedPlayer get(UUID uuid) {
+        CachedPlayer cached = pinned.get(uuid);
+        if (cached == null && !online.contains(uuid)) {
+            cached = offline.getIfPresent(uuid);
+        }
+
+        if (cached != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return cached;
+    }
+
+    /**
+     * 캐시 여부만 확인 (집계 안 함, 유휴 시간 갱신 안 함)
+     */
+    public boolean contains(UUID uuid) {
+        return pinned.containsKey(uuid) || offline.asMap().containsKey(uuid);
+    }
+
+    /**
+     * 원자적 갱신 (null을 반환하면 제거)
+     */
+    public CachedPlayer compute(UUID uuid, BiFunction<UUID, CachedPlayer, CachedPlayer> remapping) {
+        return online.contains(uuid)
+                ? pinned.compute(uuid, remapping)
+                : offline.asMap().compute(uuid, remapping);
+    }
+
+    /**
+     * 캐시된 경우에만 원자적 갱신
+     */
+    public CachedPlayer computeIfPresent(UUID uuid, BiFunction<UUID, CachedPlayer, CachedPlayer> remapping) {
+        return online.contains(uuid)
+                ? pinned.computeIfPresent(uuid, remapping)
+                : offline.asMap().computeIfPresent(uuid, remapping);
+    }
+
+    /**
+     * 제거 (제거된 값 반환)
+     */
+    public CachedPlayer invalidate(UUID uuid) {
+        CachedPlayer removed = pinned.remove(uuid);
+        CachedPlayer removedOffline = offline.asMap().remove(uuid);
+        return removed != null ? removed : removedOffline;
+    }
+
+    public void invalidateAll() {
+        pinned.clear();
+        offline.invalidateAll();
+    }
+
+    /**
+     * 온라인 플레이어 고정 (접속 시) - 크기 제한 영역에 있던 항목은 고정 영역으로 이동
+     */
+    public void pin(UUID uuid) {
+        if (!online.add(uuid)) return;
+
+        CachedPlayer moved = offline.asMap().remove(uuid);
+        if (moved != null) {
+            pinned.merge(uuid, moved, PlayerTitleCache::newer);
+        }
+    }
+
+    /**
+     * 고정 해제 (접속 종료 시) - 크기 제한 영역으로 이동해 재접속 시 재사용
+     */
+    public void unpin(UUID uuid) {
+        if (!online.remove(uuid)) return;
+
+        CachedPlayer moved = pinned.remove(uuid);
+        if (moved != null) {
+            offline.asMap().merge(uuid, moved, PlayerTitleCache::newer);
+        }
+    }
+
+    public boolean isPinned(UUID uuid) {
+        return online.contains(uuid);
+    }
+
+    /**
+     * 고정된(온라인) 플레이어 목록 스냅샷 - 캐시가 비어 있어도 포함
+     */
+    public Set<UUID> pinnedIds() {
+        return Set.copyOf(online);
+    }
+
+    /**
+     * 캐시된 모든 플레이어의 버전 스냅샷 (재검증용)
+     */
+    public Map<UUID, Long> versions() {
+        Map<UUID, Long> versions = new HashMap<>(pinned.size() + (int) offline.estimatedSize());
+        pinned.forEach((uuid, cached) -> versions.put(uuid, cached.version()));
+        offline.asMap().forEach((uuid, cached) -> versions.putIfAbsent(uuid, cached.version()));
+        return versions;
+    }
+
+    /**
+     * 캐시된 모든 플레이어 상태 스냅샷 (종료 시 파일 기록용)
+     */
+    public Map<UUID, CachedPlayer> entries() {
+        Map<UUID, CachedPlayer> entries = new HashMap<>(pinned);
+        offline.asMap().forEach(entries::putIfAbsent);
+        return entries;
+    }
+
+    private static CachedPlayer newer(CachedPlayer a, CachedPlayer b) {
+        return a.version() >= b.version() ? a : b;
+    }
+
+    // ========================================
+    // 지표
+    // ========================================
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public double getHitRate() {
+        long total = getHits() + getMisses();
+        return total == 0 ? 1.0 : (double) getHits() / total;
+    }
+
+    /** 크기 제한/만료로 제거된 항목 수 */
+    public long getEvictions() {
+        return offline.stats().evictionCount();
+    }
+
+    public int getPinnedSize() {
+        return pinned.size();
+    }
+
+    public long getOfflineSize() {
+        return offline.estimatedSize();
+    }
+}
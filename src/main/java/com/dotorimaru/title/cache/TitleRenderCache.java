@@ -0,0 +1,74 @@
+package com.dotorimaru.title.cache;
+
+import com.dotorimaru.title.utils.ColorUtils;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 칭호 렌더링 캐시
+ * 원본 칭호 문자열 → 색상 변환이 끝난 문자열 (PlaceholderAPI 핫패스용)
+ */
+public class TitleRenderCache {
+    
+    private final Map<String, RenderedTitle> cache = new ConcurrentHashMap<>();
+    
+    /**
+     * 렌더링된 칭호 조회 (없으면 한 번만 계산)
+     */
+    public RenderedTitle get(String titleName) {
+        if (titleName == null || titleName.isEmpty()) {
+            return RenderedTitle.EMPTY;
+        }
+        
+        RenderedTitle cached = cache.get(titleName);
+        if (cached != null) {
+            return cached;
+        }
+        return cache.computeIfAbsent(titleName, RenderedTitle::render);
+    }
+    
+    /**
+     * 칭호 목록 미리 렌더링 (로드/획득 시)
+     */
+    public void warm(Collection<String> titleNames) {
+        for (String titleName : titleNames) {
+            get(titleName);
+        }
+    }
+    
+    /**
+     * 캐시 초기화 (리로드 시)
+     */
+    public void clear() {
+        cache.clear();
+    }
+    
+    public int size() {
+        return cache.size();
+    }
+    
+    /**
+     * 렌더링 결과
+     *
+     * @param raw       색상 코드 그대로 (%titlesystem_title_raw%)
+     * @param name      색상 적용된 칭호 이름 (메시지 {title} 치환용)
+     * @param colored   [칭호] 형식, 대괄호 흰색 (%titlesystem_title%)
+     * @param formatted 채팅 출력용 (TitleManager.formatTitle)
+     */
+    public record RenderedTitle(String raw, String name, String colored, String formatted) {
+        
+        public static final RenderedTitle EMPTY = new RenderedTitle("", "", "", "");
+        
+        static RenderedTitle render(String titleName) {
+            String name = ColorUtils.colorize(titleName);
+            return new RenderedTitle(
+                titleName,
+                name,
+                "§f[" + name + "§f] ",
+                ColorUtils.formatTitle(titleName)
+            );
+        }
+    }
+}
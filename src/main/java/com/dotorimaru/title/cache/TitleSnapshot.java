@@ -0,0 +1,187 @@
+package com.dotorimaru.title.cache;
+
+import com.dotorimaru.title.models.OwnedTitles;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * 재시작용 칭호 상태 스냅샷 (메모리 매핑 파일, 로컬 캐시의 CachedPlayer 그대로)
+ * 종료 시 한 번 기록하고, 다음 시작 시에는 UUID 색인만 만든 뒤 조회된 항목만 하나씩 꺼냄
+ *
+ * - 헤더: 매직, 형식 버전, 기록 시각, 항목 수, 본문 CRC32
+ * - 항목: UUID, 동기화 버전, 선택 칭호 ID, 칭호 수, 칭호 ID[], 획득 시간[] (ID 오름차순)
+ * - 꺼낸 항목은 색인에서 빠짐 (한 번만 사용, 이후에는 로컬 캐시가 관리)
+ * - 버전 확인은 사용하는 쪽에서 (TitleManager)
+ */
+public class TitleSnapshot {
+
+    private static final int MAGIC = 0x54534E50; // "TSNP"
+    private static final int FORMAT = 1;
+    private static final int HEADER_BYTES = 24;
+    private static final int ENTRY_FIXED_BYTES = 32;
+
+    private final long writtenAt;
+    private final Map<UUID, Integer> offsets;
+    private volatile ByteBuffer buffer;
+
+    private TitleSnapshot(ByteBuffer buffer, long writtenAt, Map<UUID, Integer> offsets) {
+        this.buffer = buffer;
+        this.writtenAt = writtenAt;
+        this.offsets = offsets;
+    }
+
+    /**
+     * 스냅샷 기록 (임시 파일에 쓰고 fsync 후 교체)
+     *
+     * @return 기록한 바이트 수
+     */
+    public static long write(Path file, Map<UUID, PlayerTitleCache.CachedPlayer> entries) throws IOException {
+        long size = HEADER_BYTES;
+        for (PlayerTitleCache.CachedPlayer cached : entries.values()) {
+            size += ENTRY_FIXED_BYTES + cached.titles().size() * 12L;
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("스냅샷이 너무 큽니다: " + size + " bytes");
+        }
+
+        Files.createDirectories(file.getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+
+            out.position(HEADER_BYTES);
+            for (Map.Entry<UUID, PlayerTitleCache.CachedPlayer> entry : entries.entrySet()) {
+                PlayerTitleCache.CachedPlayer cached = entry.getValue();
+                OwnedTitles titles = cached.titles();
+                out.putLong(entry.getKey().getMostSignificantBits())
+                   .putLong(entry.getKey().getLeastSignificantBits())
+                   .putLong(cached.version())
+                   .putInt(cached.selected())
+                   .putInt(titles.size());
+                for (int i = 0; i < titles.size(); i++) {
+                    out.putInt(titles.idAt(i));
+                }
+                for (int i = 0; i < titles.size(); i++) {
+                    out.putLong(titles.obtainedAtIndex(i));
+                }
+            }
+
+            out.putInt(0, MAGIC)
+               .putInt(4, FORMAT)
+               .putLong(8, System.currentTimeMillis())
+               .putInt(16, entries.size())
+               .putInt(20, checksum(out, (int) size));
+            out.force();
+        }
+
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return size;
+    }
+
+    /**
+     * 스냅샷 열기 (읽기 전용 매핑 + UUID 색인, 항목 내용은 꺼낼 때 읽음)
+     *
+     * @return 파일이 없으면 null
+     * @throws IOException 읽기 실패, 형식이 다르거나 손상된 파일
+     */
+    public static TitleSnapshot open(Path file) throws IOException {
+        if (!Files.exists(file)) return null;
+
+        MappedByteBuffer in;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("스냅샷 크기가 올바르지 않습니다: " + size + " bytes");
+            }
+            // 매핑은 채널을 닫아도 유지됨
+            in = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        if (in.getInt(0) != MAGIC || in.getInt(4) != FORMAT) {
+            throw new IOException("스냅샷 형식이 다릅니다.");
+        }
+        if (in.getInt(20) != checksum(in, in.capacity())) {
+            throw new IOException("스냅샷이 손상되었습니다 (CRC 불일치).");
+        }
+
+        int count = in.getInt(16);
+        Map<UUID, Integer> offsets = new ConcurrentHashMap<>(Math.max(16, count * 4 / 3 + 1));
+        int offset = HEADER_BYTES;
+        for (int i = 0; i < count; i++) {
+            if (offset + ENTRY_FIXED_BYTES > in.capacity()) {
+                throw new IOException("스냅샷이 잘려 있습니다 (%d/%d).".formatted(i, count));
+            }
+            int titles = in.getInt(offset + 28);
+            if (titles < 0 || titles > (in.capacity() - offset) / 12) {
+                throw new IOException("스냅샷 항목이 올바르지 않습니다 (%d/%d).".formatted(i, count));
+            }
+            offsets.put(new UUID(in.getLong(offset), in.getLong(offset + 8)), offset);
+            offset += ENTRY_FIXED_BYTES + titles * 12;
+        }
+        if (offset != in.capacity()) {
+            throw new IOException("스냅샷 길이가 항목 수와 맞지 않습니다.");
+        }
+
+        return new TitleSnapshot(in, in.getLong(8), offsets);
+    }
+
+    /**
+     * 항목 꺼내기 (없거나 이미 꺼냈으면 null)
+     * 여러 스레드에서 동시에 호출 가능 (위치를 바꾸지 않는 절대 위치 읽기만 사용)
+     */
+    public PlayerTitleCache.CachedPlayer take(UUID uuid) {
+        ByteBuffer in = buffer;
+        Integer offset = offsets.remove(uuid);
+        if (in == null || offset == null) return null;
+
+        long version = in.getLong(offset + 16);
+        int selected = in.getInt(offset + 24);
+        int size = in.getInt(offset + 28);
+
+        int[] ids = new int[size];
+        long[] obtainedAt = new long[size];
+        int idsStart = offset + ENTRY_FIXED_BYTES;
+        int timesStart = idsStart + size * 4;
+        for (int i = 0; i < size; i++) {
+            ids[i] = in.getInt(idsStart + i * 4);
+            obtainedAt[i] = in.getLong(timesStart + i * 8);
+        }
+        return new PlayerTitleCache.CachedPlayer(OwnedTitles.of(ids, obtainedAt, size), selected, version);
+    }
+
+    /** 아직 꺼내지 않은 항목 수 */
+    public int remaining() {
+        return offsets.size();
+    }
+
+    public long getWrittenAt() {
+        return writtenAt;
+    }
+
+    /**
+     * 더 이상 사용하지 않음 (매핑은 GC 시 해제)
+     */
+    public void close() {
+        buffer = null;
+        offsets.clear();
+    }
+
+    /** 헤더 뒤 본문의 CRC32 */
+    private static int checksum(ByteBuffer buffer, int size) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(HEADER_BYTES).limit(size));
+        return (int) crc.getValue();
+    }
+}
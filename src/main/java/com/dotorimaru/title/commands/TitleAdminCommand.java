@@ -1,6 +1,8 @@
 package com.dotorimaru.title.commands;
 
 import com.dotorimaru.title.TitlePlugin;
+import com.dotorimaru.title.cache.PlayerTitleCache;
+import com.dotorimaru.title.database.TitleStorageExecutor;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
@@ -40,6 +42,18 @@ public class TitleAdminCommand implements CommandExecutor, TabCompleter {
             return true;
         }
         
+        // 캐시 상태 명령어
+        if (args[0].equalsIgnoreCase("캐시") || args[0].equalsIgnoreCase("cache")) {
+            handleCache(sender);
+            return true;
+        }
+        
+        // 지표 명령어
+        if (args[0].equalsIgnoreCase("통계") || args[0].equalsIgnoreCase("stats")) {
+            handleStats(sender);
+            return true;
+        }
+        
         // 알 수 없는 명령어
         sendHelp(sender);
         return true;
@@ -52,6 +66,19 @@ public class TitleAdminCommand implements CommandExecutor, TabCompleter {
         try {
             // Config 리로드
             plugin.reloadConfig();
+            plugin.loadSettings();
+            
+            // 렌더링 캐시 초기화 (다음 조회 시 다시 계산)
+            plugin.getTitleManager().getRenderCache().clear();
+            
+            // GUI 아이템 템플릿 다시 읽기 (캐시된 아이템도 비움)
+            plugin.getTitleItemCache().reload();
+            
+            // 로컬 캐시 크기/만료 설정 적용
+            plugin.getTitleManager().configureCache();
+            
+            // 캐시에 없는 접속 중 플레이어 일괄 예열
+            plugin.getTitleManager().warmUpOnline();
             
             sender.sendMessage("§a[칭호] 설정 파일이 리로드되었습니다!");
             plugin.getLogger().info(sender.getName() + "이(가) 칭호 설정을 리로드했습니다.");
@@ -63,6 +90,43 @@ public class TitleAdminCommand implements CommandExecutor, TabCompleter {
         }
     }
     
+    /**
+     * 로컬 캐시 상태 표시 (크기 조정용)
+     */
+    private void handleCache(CommandSender sender) {
+        PlayerTitleCache cache = plugin.getTitleManager().getPlayerCache();
+        
+        sender.sendMessage("§6[칭호] 로컬 캐시 상태");
+        sender.sendMessage("§7고정(온라인): §f%d §7/ 오프라인: §f%d".formatted(cache.getPinnedSize(), cache.getOfflineSize()));
+        sender.sendMessage("§7적중: §f%d §7/ 미스: §f%d §7(적중률 §f%.1f%%§7)".formatted(
+            cache.getHits(), cache.getMisses(), cache.getHitRate() * 100));
+        sender.sendMessage("§7제거(크기/만료): §f%d".formatted(cache.getEvictions()));
+        sender.sendMessage("§7로드 공유: §f%d §7/ 재시도: §f%d".formatted(
+            plugin.getTitleManager().getSharedLoads(), plugin.getTitleManager().getRetriedLoads()));
+        sender.sendMessage("§7렌더링: §f%d §7/ GUI 아이템: §f%d".formatted(
+            plugin.getTitleManager().getRenderCache().size(), plugin.getTitleItemCache().size()));
+        
+        TitleStorageExecutor executor = plugin.getMySQLManager().getExecutor();
+        sender.sendMessage("§7저장소 실행기(%s): 실행 §f%d§7/%d, 대기 §f%d §7(최대 %d), 평균 대기 §f%.1fms".formatted(
+            executor.getMode().name().toLowerCase(), executor.getActive(), executor.getMaxConcurrency(),
+            executor.getQueueDepth(), executor.getMaxQueueDepth(), executor.getAverageWaitMillis()));
+    }
+    
+    /**
+     * 전체 지표 표시 (Prometheus 엔드포인트와 같은 값)
+     */
+    private void handleStats(CommandSender sender) {
+        if (plugin.getMetrics() == null) {
+            sender.sendMessage("§c[칭호] 지표가 아직 준비되지 않았습니다.");
+            return;
+        }
+        
+        sender.sendMessage("§6[칭호] 지표");
+        for (String line : plugin.getMetrics().summary()) {
+            sender.sendMessage("§7" + line);
+        }
+    }
+    
     /**
      * 도움말 표시
      */
@@ -71,6 +135,8 @@ public class TitleAdminCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage("§6§l칭호 관리자 명령어");
         sender.sendMessage("");
         sender.sendMessage("§e/칭호관리 리로드 §7- 설정 파일 리로드");
+        sender.sendMessage("§e/칭호관리 캐시 §7- 로컬 캐시 상태 확인");
+        sender.sendMessage("§e/칭호관리 통계 §7- 캐시 적중률, 지연 시간 등 전체 지표");
         sender.sendMessage("§8§m                                    ");
     }
     
@@ -85,6 +151,10 @@ public class TitleAdminCommand implements CommandExecutor, TabCompleter {
         if (args.length == 1) {
             completions.add("리로드");
             completions.add("reload");
+            completions.add("캐시");
+            completions.add("cache");
+            completions.add("통계");
+            completions.add("stats");
         }
         
         return completions;
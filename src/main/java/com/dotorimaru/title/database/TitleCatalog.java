@@ -0,0 +1,187 @@
+package com.dotorimaru.title.database;
+
+import com.dotorimaru.title.models.OwnedTitles;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 칭호 이름 ↔ 정수 ID 목록 (title_catalog 테이블의 메모리 사본)
+ * 시작 시 한 번 전체 로드하고, 이후에는 처음 보는 이름/ID만 조회해서 추가
+ *
+ * - 이름은 색상 코드를 포함한 원문 그대로 (utf8mb4_bin, 대소문자 구분)
+ * - ID는 한 번 정해지면 바뀌지 않으므로 제거 없이 계속 캐시
+ */
+public class TitleCatalog {
+
+    private final String table;
+
+    private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private final Map<Integer, String> namesById = new ConcurrentHashMap<>();
+
+    public TitleCatalog(String table) {
+        this.table = table;
+    }
+
+    /**
+     * 전체 로드 (시작 시 한 번)
+     */
+    public void load(Connection conn) throws SQLException {
+        try (var stmt = conn.createStatement();
+             var rs = stmt.executeQuery("SELECT id, title_name FROM %s".formatted(table))) {
+            while (rs.next()) {
+                remember(rs.getInt("id"), rs.getString("title_name"));
+            }
+        }
+    }
+
+    /** 메모리에서만 조회 (없으면 null) */
+    public Integer idOf(String titleName) {
+        return idsByName.get(titleName);
+    }
+
+    /** 메모리에서만 조회 (없으면 null) */
+    public String nameOf(int id) {
+        return namesById.get(id);
+    }
+
+    public int size() {
+        return namesById.size();
+    }
+
+    /**
+     * 이름 → ID
+     * create가 true면 처음 보는 이름은 INSERT IGNORE 후 조회 (autocommit 연결에서 호출할 것),
+     * false면 조회만 하고 목록에 없는 이름은 결과에서 빠짐
+     */
+    public Map<String, Integer> resolveIds(Connection conn, Collection<String> titleNames, boolean create) throws SQLException {
+        Map<String, Integer> resolved = new HashMap<>(titleNames.size());
+        List<String> unknown = new ArrayList<>();
+
+        for (String name : new LinkedHashSet<>(titleNames)) {
+            Integer id = idsByName.get(name);
+            if (id != null) {
+                resolved.put(name, id);
+            } else {
+                unknown.add(name);
+            }
+        }
+        if (unknown.isEmpty()) return resolved;
+
+        if (create) {
+            insertNames(conn, unknown);
+        }
+        selectIds(conn, unknown, resolved);
+
+        if (create) {
+            for (String name : unknown) {
+                if (!resolved.containsKey(name)) {
+                    throw new SQLException("칭호 ID를 만들 수 없습니다: " + name);
+                }
+            }
+        }
+        return resolved;
+    }
+
+    private void insertNames(Connection conn, List<String> names) throws SQLException {
+        long now = System.currentTimeMillis();
+        try (var insert = conn.prepareStatement(
+                "INSERT IGNORE INTO %s (title_name, created_at) VALUES (?, ?)".formatted(table))) {
+            for (String name : names) {
+                insert.setString(1, name);
+                insert.setLong(2, now);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private void selectIds(Connection conn, List<String> names, Map<String, Integer> resolved) throws SQLException {
+        String sql = "SELECT id, title_name FROM %s WHERE title_name IN (%s)"
+                .formatted(table, placeholders(names.size()));
+        try (var select = conn.prepareStatement(sql)) {
+            for (int i = 0; i < names.size(); i++) {
+                select.setString(i + 1, names.get(i));
+            }
+            try (var rs = select.executeQuery()) {
+                while (rs.next()) {
+                    String name = rs.getString("title_name");
+                    int id = rs.getInt("id");
+                    remember(id, name);
+                    resolved.put(name, id);
+                }
+            }
+        }
+    }
+
+    /**
+     * ID → 이름 (메모리에 없는 ID는 조회 - 다른 서버가 추가한 칭호)
+     * 목록에 없는 ID는 결과에서 빠짐
+     */
+    public Map<Integer, String> resolveNames(Connection conn, Collection<Integer> ids) throws SQLException {
+        Map<Integer, String> resolved = new HashMap<>(ids.size());
+        List<Integer> unknown = new ArrayList<>();
+
+        for (int id : new LinkedHashSet<>(ids)) {
+            String name = namesById.get(id);
+            if (name != null) {
+                resolved.put(id, name);
+            } else {
+                unknown.add(id);
+            }
+        }
+        if (unknown.isEmpty()) return resolved;
+
+        String sql = "SELECT id, title_name FROM %s WHERE id IN (%s)".formatted(table, placeholders(unknown.size()));
+        try (var select = conn.prepareStatement(sql)) {
+            for (int i = 0; i < unknown.size(); i++) {
+                select.setInt(i + 1, unknown.get(i));
+            }
+            try (var rs = select.executeQuery()) {
+                while (rs.next()) {
+                    int id = rs.getInt("id");
+                    String name = rs.getString("title_name");
+                    remember(id, name);
+                    resolved.put(id, name);
+                }
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * ID 등록 (DB 조회 없이, 벤치마크 등 이미 ID를 아는 경우)
+     */
+    public void register(int id, String titleName) {
+        remember(id, titleName);
+    }
+
+    /**
+     * 메모리에 없는 ID만 추림 (선택 칭호 0 = 없음)
+     */
+    public List<Integer> unknownIds(OwnedTitles titles, int selectedId) {
+        List<Integer> unknown = new ArrayList<>();
+        titles.forEach((id, obtainedAt) -> {
+            if (!namesById.containsKey(id)) unknown.add(id);
+        });
+        if (selectedId != 0 && !namesById.containsKey(selectedId)) unknown.add(selectedId);
+        return unknown;
+    }
+
+    private void remember(int id, String titleName) {
+        namesById.put(id, titleName);
+        idsByName.put(titleName, id);
+    }
+
+    static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+}
@@ -1,13 +1,14 @@
 package com.dotorimaru.title.database;
 
+import com.dotorimaru.title.metrics.PoolMetrics;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.sql.SQLTransientConnectionException;
 import java.util.function.Consumer;
 
 /**
@@ -16,18 +17,18 @@ import java.util.function.Consumer;
 public class TitleMySQLManager {
     private final JavaPlugin plugin;
     private HikariDataSource dataSource;
-    private final ExecutorService executor;
+
+    /** 모든 JDBC 작업이 실행되는 실행기 (동시 실행 수 = 풀 크기) */
+    @Getter
+    private final TitleStorageExecutor executor;
+
+    /** Hikari 연결 대기/사용 시간, 풀 상태 */
+    @Getter
+    private final PoolMetrics poolMetrics = new PoolMetrics();
 
     public TitleMySQLManager(JavaPlugin plugin) {
         this.plugin = plugin;
-        this.executor = Executors.newFixedThreadPool(
-                Math.min(Runtime.getRuntime().availableProcessors() * 2, 8),
-                r -> {
-                    Thread t = new Thread(r, "Title-MySQL-Worker");
-                    t.setDaemon(true);
-                    return t;
-                }
-        );
+        this.executor = new TitleStorageExecutor(plugin);
     }
 
     public void connect() throws SQLException {
@@ -56,6 +57,7 @@ public class TitleMySQLManager {
         config.setMaxLifetime(plugin.getConfig().getLong("database.mysql.pool.max-lifetime", 1800000));
         config.setConnectionTestQuery("SELECT 1");
         config.setPoolName("Title-MySQL-Pool");
+        config.setMetricsTrackerFactory(poolMetrics);
 
         // 최적화
         config.addDataSourceProperty("cachePrepStmts", "true");
@@ -70,16 +72,18 @@ public class TitleMySQLManager {
 
     public Connection getConnection() throws SQLException {
         if (dataSource == null || dataSource.isClosed())
-            throw new SQLException("MySQL 연결이 초기화되지 않았습니다.");
+            throw new SQLTransientConnectionException("MySQL 연결이 초기화되지 않았습니다.");
         return dataSource.getConnection();
     }
 
     public void disconnect() {
+        // 실행 중인 작업이 연결을 반납한 뒤 풀 종료
+        executor.shutdown();
+        
         if (dataSource != null && !dataSource.isClosed()) {
             dataSource.close();
             plugin.getLogger().info("✅ Title MySQL 연결 종료");
         }
-        executor.shutdownNow();
     }
 
     public boolean isConnected() {
@@ -91,7 +95,7 @@ public class TitleMySQLManager {
      * ResultSet은 비동기 스레드에서 처리되므로 callback 내에서 바로 데이터를 추출해야 함
      */
     public void asyncQuery(String sql, Consumer<java.sql.ResultSet> callback, Object... params) {
-        executor.submit(() -> {
+        executor.execute(() -> {
             try (Connection conn = getConnection();
                  var ps = conn.prepareStatement(sql)) {
 
@@ -122,10 +126,11 @@ public class TitleMySQLManager {
 
     /**
      * 비동기 업데이트 실행
-     * callback은 비동기 스레드에서 실행됨 (Bukkit API 사용 불가)
+     * callback은 비동기 스레드에서 실행됨 (Bukkit API 사용 불가), 실패 시 -1
+     * 칭호 쓰기는 이 메서드가 아닌 TitleWriteBehindQueue(저널 포함)를 사용
      */
     public void asyncUpdate(String sql, Consumer<Integer> callback, Object... params) {
-        executor.submit(() -> {
+        executor.execute(() -> {
             try (Connection conn = getConnection();
                  var ps = conn.prepareStatement(sql)) {
 
@@ -142,6 +147,9 @@ public class TitleMySQLManager {
             } catch (SQLException e) {
                 plugin.getLogger().severe("MySQL UPDATE 실패: " + e.getMessage());
                 e.printStackTrace();
+                if (callback != null) {
+                    callback.accept(-1);
+                }
             }
         });
     }
@@ -0,0 +1,188 @@
+package com.dotorimaru.title.database;
+
+import org.bukkit.plugin.java.JavaPlugin;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Redis 장애 차단기 (TitleRedisManager 전용)
+ * 연결 오류가 연속으로 쌓이면 열림 상태로 바꿔 Redis 호출을 기다리지 않고 바로 건너뜀
+ *
+ * - CLOSED: 정상, 모든 호출 통과
+ * - OPEN: 장애, 모든 호출 즉시 거부 - 백그라운드에서 주기적으로 PING (실패할 때마다 간격 2배)
+ * - HALF_OPEN: PING 확인 중 (여전히 거부), 성공하면 CLOSED + 복구 리스너 실행
+ * - 연결 오류만 집계 (WRONGTYPE, 스크립트 오류 등 명령 오류는 장애가 아님)
+ */
+public class TitleRedisCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final JavaPlugin plugin;
+    private final Supplier<Jedis> probeConnection;
+    private final int failureThreshold;
+    private final long initialProbeMillis;
+    private final long maxProbeMillis;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAt;
+    private long probeDelay; // 확인 스레드 전용
+
+    private final ScheduledExecutorService prober;
+    private final List<Runnable> recoveryListeners = new CopyOnWriteArrayList<>();
+
+    // 지표
+    private final AtomicLong opened = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public TitleRedisCircuitBreaker(JavaPlugin plugin, Supplier<Jedis> probeConnection) {
+        this.plugin = plugin;
+        this.probeConnection = probeConnection;
+        this.failureThreshold = Math.max(1, plugin.getConfig().getInt("database.redis.circuit-breaker.failure-threshold", 3));
+        this.initialProbeMillis = Math.max(100L, plugin.getConfig().getLong("database.redis.circuit-breaker.probe-interval-ms", 1000L));
+        this.maxProbeMillis = Math.max(initialProbeMillis,
+                plugin.getConfig().getLong("database.redis.circuit-breaker.max-probe-interval-ms", 30000L));
+        this.prober = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "Title-Redis-Probe");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 호출 허용 여부 (CLOSED일 때만, 거부 시 집계)
+     */
+    public boolean allowRequest() {
+        if (state.get() == State.CLOSED) {
+            return true;
+        }
+        rejected.incrementAndGet();
+        return false;
+    }
+
+    public boolean isClosed() {
+        return state.get() == State.CLOSED;
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    /**
+     * 명령 성공 (연속 실패 초기화)
+     */
+    public void onSuccess() {
+        if (consecutiveFailures.get() != 0) {
+            consecutiveFailures.set(0);
+        }
+    }
+
+    /**
+     * 명령 실패 - 연결 오류가 기준 횟수만큼 이어지면 차단
+     */
+    public void onFailure(Throwable error) {
+        if (!isConnectionFailure(error)) return;
+        if (consecutiveFailures.incrementAndGet() < failureThreshold) return;
+
+        if (state.compareAndSet(State.CLOSED, State.OPEN)) {
+            opened.incrementAndGet();
+            openedAt = System.currentTimeMillis();
+            plugin.getLogger().warning("⚠️ Redis 장애 감지 (연속 %d회 연결 실패: %s) → 복구될 때까지 MySQL만 사용"
+                    .formatted(consecutiveFailures.get(), rootMessage(error)));
+            probeDelay = initialProbeMillis;
+            scheduleProbe();
+        }
+    }
+
+    /**
+     * 복구 리스너 추가 (CLOSED로 돌아온 직후 확인 스레드에서 실행)
+     */
+    public void addRecoveryListener(Runnable listener) {
+        recoveryListeners.add(listener);
+    }
+
+    private void scheduleProbe() {
+        try {
+            prober.schedule(this::probe, probeDelay, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            // 종료 중
+        }
+    }
+
+    private void probe() {
+        if (!state.compareAndSet(State.OPEN, State.HALF_OPEN)) return;
+
+        try (Jedis jedis = probeConnection.get()) {
+            if (jedis == null) throw new JedisConnectionException("Redis 연결 풀이 닫혀 있습니다.");
+            jedis.ping();
+        } catch (Exception e) {
+            state.set(State.OPEN);
+            plugin.getLogger().fine("Redis 복구 확인 실패: " + e.getMessage());
+            probeDelay = Math.min(maxProbeMillis, probeDelay * 2);
+            scheduleProbe();
+            return;
+        }
+
+        consecutiveFailures.set(0);
+        state.set(State.CLOSED);
+        plugin.getLogger().info("✅ Redis 복구됨 (%d초 동안 차단) → 캐시 다시 사용"
+                .formatted((System.currentTimeMillis() - openedAt) / 1000));
+
+        for (Runnable listener : recoveryListeners) {
+            try {
+                listener.run();
+            } catch (Exception e) {
+                plugin.getLogger().warning("Redis 복구 처리 중 오류: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 연결 오류인지 (원인 체인에 JedisConnectionException - 연결 거부, 끊김, 타임아웃)
+     */
+    private static boolean isConnectionFailure(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof JedisConnectionException) return true;
+            if (t.getCause() == t) break;
+        }
+        return false;
+    }
+
+    private static String rootMessage(Throwable error) {
+        Throwable root = error;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    public void shutdown() {
+        prober.shutdownNow();
+    }
+
+    // ========================================
+    // 지표
+    // ========================================
+
+    /** 차단된 횟수 */
+    public long getOpened() {
+        return opened.get();
+    }
+
+    /** 차단 중 건너뛴 호출 수 */
+    public long getRejected() {
+        return rejected.get();
+    }
+}
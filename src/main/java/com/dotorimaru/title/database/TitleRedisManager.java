@@ -4,11 +4,26 @@ import lombok.Getter;
 import org.bukkit.plugin.java.JavaPlugin;
 import redis.clients.jedis.*;
 import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.params.XAddParams;
 import redis.clients.jedis.resps.ScanResult;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * 칭호 시스템 전용 Redis 매니저 (Core와 독립)
@@ -26,10 +41,45 @@ public class TitleRedisManager {
     private final int cacheTTL;
     private final String pubsubChannel;
 
-    // 여러 핸들러 지원
-    private final List<Consumer<String>> messageHandlers = new CopyOnWriteArrayList<>();
+    // 동기화 전송 방식 (pubsub 기본, stream은 끊긴 동안의 메시지 재처리)
+    @Getter
+    private final TitleSyncSubscriber.Transport transport;
+    private final String streamKey;
+    private final long streamMaxLength;
+    private final String serverId;
+    private static final String SERVER_ID_FILE = "server-id.txt";
+
+    // 플레이어별 동기화 버전 키 유지 시간 (캐시보다 길게, 쓰기마다 갱신)
+    private static final int VERSION_TTL = 60 * 60 * 24 * 30;
+
+    // 수신 메시지 분배기 (메인 스레드 밖, 플레이어별 순서 보장)
+    @Getter
+    private final TitleSyncDispatcher dispatcher;
     private boolean subscribeStarted = false;
 
+    // 수신기 (재연결 + 재처리)
+    @Getter
+    private TitleSyncSubscriber subscriber;
+
+    // 재연결 후 재검증 리스너 (놓친 변경분 보완)
+    private final List<Runnable> resyncListeners = new CopyOnWriteArrayList<>();
+
+    // 장애 차단기 (연결 오류가 이어지면 Redis 호출을 즉시 건너뜀)
+    @Getter
+    private final TitleRedisCircuitBreaker circuitBreaker;
+
+    // 장애 복구 작업 (완료 후 재검증 리스너 실행)
+    private final List<Supplier<CompletableFuture<Void>>> recoveryTasks = new CopyOnWriteArrayList<>();
+
+    // 비동기 명령 실행기 (전용 연결 + I/O 스레드, 자동 파이프라이닝)
+    @Getter
+    private TitleRedisPipeline pipeline;
+    private final ExecutorService callbackExecutor;
+
+    // 동기화 메시지 발행기 (묶음 전송 + 중복 제거)
+    @Getter
+    private TitleSyncPublisher publisher;
+
     public TitleRedisManager(JavaPlugin plugin) {
         this.plugin = plugin;
 
@@ -41,6 +91,50 @@ public class TitleRedisManager {
         this.database = plugin.getConfig().getInt("database.redis.database", 0);
         this.cacheTTL = plugin.getConfig().getInt("database.redis.cache.ttl", 600);
         this.pubsubChannel = "title:sync";
+        this.transport = TitleSyncSubscriber.Transport.fromConfig(
+                plugin.getConfig().getString("database.redis.sync.transport", "pubsub"));
+        this.streamKey = "title:sync:stream";
+        this.streamMaxLength = Math.max(100L, plugin.getConfig().getLong("database.redis.sync.stream.max-length", 10000L));
+        String configuredId = plugin.getConfig().getString("database.redis.sync.server-id", "");
+        this.serverId = configuredId == null || configuredId.isBlank()
+                ? loadOrCreateServerId()
+                : configuredId.trim();
+        this.dispatcher = new TitleSyncDispatcher(plugin);
+        this.circuitBreaker = new TitleRedisCircuitBreaker(plugin, this::getResource);
+        this.circuitBreaker.addRecoveryListener(this::onRecovered);
+        this.callbackExecutor = Executors.newFixedThreadPool(2, r -> {
+            Thread t = new Thread(r, "Title-Redis-Callback");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 자동 서버 ID (처음 한 번 UUID를 만들어 데이터 폴더에 저장하고 이후 재사용)
+     * 포트는 서버마다 같을 수 있어 (기본 25565) 스트림 컨슈머 그룹이 겹치면 메시지를 나눠 받게 됨
+     */
+    private String loadOrCreateServerId() {
+        Path file = plugin.getDataFolder().toPath().resolve(SERVER_ID_FILE);
+        try {
+            if (Files.exists(file)) {
+                String saved = Files.readString(file, StandardCharsets.UTF_8).trim();
+                if (!saved.isEmpty()) {
+                    return saved;
+                }
+            }
+
+            String created = UUID.randomUUID().toString();
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, created + "\n", StandardCharsets.UTF_8);
+            plugin.getLogger().info("✅ Title 서버 ID 생성: " + created + " (" + SERVER_ID_FILE + ")");
+            return created;
+        } catch (IOException e) {
+            // 저장하지 못하면 이번 실행에서만 쓰는 ID (재시작하면 스트림 컨슈머 그룹이 새로 생김)
+            String temporary = UUID.randomUUID().toString();
+            plugin.getLogger().warning("⚠️ Title 서버 ID 저장 실패 (%s) → 임시 ID 사용: %s"
+                    .formatted(e.getMessage(), temporary));
+            return temporary;
+        }
     }
 
     /** Redis 연결 풀 초기화 */
@@ -60,8 +154,9 @@ public class TitleRedisManager {
             poolConfig.setMaxTotal(20);
             poolConfig.setMaxIdle(10);
             poolConfig.setMinIdle(2);
-            poolConfig.setTestOnBorrow(true);
-            poolConfig.setTestOnReturn(true);
+            // 빌릴 때/반납할 때 PING 생략 (유휴 연결만 백그라운드에서 검사)
+            poolConfig.setTestOnBorrow(false);
+            poolConfig.setTestOnReturn(false);
             poolConfig.setTestWhileIdle(true);
 
             if (password != null && !password.isEmpty()) {
@@ -75,6 +170,16 @@ public class TitleRedisManager {
                 jedis.ping();
             }
 
+            pipeline = new TitleRedisPipeline(plugin, this::openDedicatedConnection, callbackExecutor, circuitBreaker);
+            pipeline.start();
+
+            publisher = new TitleSyncPublisher(plugin, this::getResource, transport == TitleSyncSubscriber.Transport.STREAM
+                    ? (jedis, message) -> jedis.xadd(streamKey,
+                            XAddParams.xAddParams().maxLen(streamMaxLength).approximateTrimming(),
+                            Map.of(TitleSyncSubscriber.STREAM_FIELD, message))
+                    : (jedis, message) -> jedis.publish(pubsubChannel, message),
+                    circuitBreaker);
+
             plugin.getLogger().info("✅ Title Redis 연결 성공! (%s:%d DB:%d)".formatted(host, port, database));
 
         } catch (Exception e) {
@@ -84,19 +189,78 @@ public class TitleRedisManager {
         }
     }
 
+    /**
+     * 비동기 명령 전용 연결 (풀과 별도, I/O 스레드만 사용)
+     */
+    private Jedis openDedicatedConnection() {
+        return new Jedis(new HostAndPort(host, port), DefaultJedisClientConfig.builder()
+                .timeoutMillis(2000)
+                .password(password != null && !password.isEmpty() ? password : null)
+                .database(database)
+                .clientName("title-io")
+                .build());
+    }
+
     /** Redis 연결 종료 */
     public void disconnect() {
+        circuitBreaker.shutdown();
+
+        // 남은 비동기 명령 처리 후 콜백(동기화 발행 등)까지 완료
+        if (pipeline != null) {
+            pipeline.shutdown();
+        }
+        callbackExecutor.shutdown();
+        try {
+            callbackExecutor.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 남은 동기화 메시지 전송 (풀 종료 전)
+        if (publisher != null) {
+            publisher.shutdown();
+        }
+        if (subscriber != null) {
+            subscriber.shutdown();
+        }
+        dispatcher.shutdown();
+
         if (jedisPool != null && !jedisPool.isClosed()) {
             jedisPool.close();
             plugin.getLogger().info("✅ Title Redis 연결이 종료되었습니다.");
         }
     }
 
-    /** Redis 활성화 여부 */
+    /** Redis 활성화 여부 (설정 + 연결, 장애 차단과 무관) */
     public boolean isEnabled() {
         return enabled && jedisPool != null && !jedisPool.isClosed();
     }
 
+    /** 지금 Redis를 사용할 수 있는지 (활성화 + 장애 차단 중이 아님) */
+    public boolean isAvailable() {
+        return isEnabled() && circuitBreaker.isClosed();
+    }
+
+    /**
+     * 장애 복구 작업 추가 (차단이 풀린 직후 실행, 모두 끝나면 재검증 리스너 실행)
+     */
+    public void addRecoveryTask(Supplier<CompletableFuture<Void>> task) {
+        recoveryTasks.add(task);
+    }
+
+    private void onRecovered() {
+        List<CompletableFuture<Void>> running = new ArrayList<>(recoveryTasks.size());
+        for (Supplier<CompletableFuture<Void>> task : recoveryTasks) {
+            running.add(task.get());
+        }
+        CompletableFuture.allOf(running.toArray(CompletableFuture[]::new)).whenComplete((done, ex) -> {
+            if (ex != null) {
+                plugin.getLogger().warning("Redis 복구 작업 실패: " + ex.getMessage());
+            }
+            fireResync();
+        });
+    }
+
     /** Jedis 리소스 가져오기 */
     public Jedis getResource() {
         if (!isEnabled()) return null;
@@ -108,86 +272,290 @@ public class TitleRedisManager {
         return "title:" + key;
     }
 
+    // ========================================
+    // 비동기 명령 (전용 I/O 스레드, 호출자를 막지 않음)
+    // ========================================
+
+    /**
+     * 명령 예약 - 비활성화/장애 차단 상태면 기본값으로 즉시 완료, 실패 시 경고 후 기본값
+     * 차단 중에는 경고를 남기지 않음 (차단 시 한 번만 로그)
+     */
+    private <T> CompletableFuture<T> submit(TitleRedisPipeline.Command<T> command, T fallback, String action) {
+        if (!isEnabled() || pipeline == null || !circuitBreaker.allowRequest()) {
+            return CompletableFuture.completedFuture(fallback);
+        }
+
+        return pipeline.submit(command).exceptionally(ex -> {
+            if (circuitBreaker.isClosed()) {
+                plugin.getLogger().warning("Redis %s 실패: %s".formatted(action, ex.getMessage()));
+            }
+            return fallback;
+        });
+    }
+
     /** 캐시 저장 (기본 TTL 사용) */
-    public void setCache(String key, String value) {
-        setCache(key, value, cacheTTL);
+    public CompletableFuture<Void> setCache(String key, String value) {
+        return setCache(key, value, cacheTTL);
     }
 
     /** 캐시 저장 (커스텀 TTL 가능) */
-    public void setCache(String key, String value, int ttlSeconds) {
-        if (!isEnabled()) return;
-
-        try (Jedis jedis = getResource()) {
-            jedis.setex(getCacheKey(key), ttlSeconds, value);
-        } catch (Exception e) {
-            plugin.getLogger().warning("Redis 캐시 저장 실패: " + e.getMessage());
-        }
+    public CompletableFuture<Void> setCache(String key, String value, int ttlSeconds) {
+        return submit(tx -> {
+            tx.setex(getCacheKey(key), ttlSeconds, value);
+            return () -> null;
+        }, null, "캐시 저장");
     }
 
     /** 캐시 조회 */
-    public String getCache(String key) {
-        if (!isEnabled()) return null;
+    public CompletableFuture<String> getCache(String key) {
+        return submit(tx -> tx.get(getCacheKey(key))::get, null, "캐시 조회");
+    }
 
-        try (Jedis jedis = getResource()) {
-            return jedis.get(getCacheKey(key));
-        } catch (Exception e) {
-            plugin.getLogger().warning("Redis 캐시 조회 실패: " + e.getMessage());
-            return null;
-        }
+    /**
+     * 여러 캐시 조회 (같은 묶음, 왕복 1회)
+     * 실패하거나 비활성화 상태면 모든 값이 null인 리스트
+     */
+    public CompletableFuture<List<String>> getCaches(String... keys) {
+        return submit(tx -> {
+            List<Response<String>> responses = new ArrayList<>(keys.length);
+            for (String key : keys) {
+                responses.add(tx.get(getCacheKey(key)));
+            }
+            return () -> {
+                List<String> results = new ArrayList<>(keys.length);
+                responses.forEach(response -> results.add(response.get()));
+                return results;
+            };
+        }, new ArrayList<>(Collections.nCopies(keys.length, null)), "캐시 일괄 조회");
     }
 
-    /** 캐시 삭제 */
-    public void deleteCache(String key) {
-        if (!isEnabled()) return;
+    /**
+     * 해시 캐시 + 버전 조회 (같은 MULTI, 같은 시점의 스냅샷)
+     * 실패하거나 비활성화 상태면 null
+     */
+    public CompletableFuture<VersionedHash> getVersionedHash(String key, String versionKey) {
+        return submit(tx -> {
+            Response<Map<String, String>> fields = tx.hgetAll(getCacheKey(key));
+            Response<String> version = tx.get(getCacheKey(versionKey));
+            return () -> new VersionedHash(fields.get(), parseVersion(version.get()));
+        }, null, "해시 조회");
+    }
 
-        try (Jedis jedis = getResource()) {
-            jedis.del(getCacheKey(key));
-        } catch (Exception e) {
-            plugin.getLogger().warning("Redis 캐시 삭제 실패: " + e.getMessage());
-        }
+    /**
+     * 여러 해시 + 버전 조회 (같은 묶음, 왕복 1회)
+     * 실패하거나 비활성화 상태면 모두 null
+     */
+    public CompletableFuture<List<VersionedHash>> getVersionedHashes(List<String> keys, List<String> versionKeys) {
+        List<VersionedHash> failed = Collections.nCopies(keys.size(), null);
+        if (keys.isEmpty()) return CompletableFuture.completedFuture(failed);
+
+        return submit(tx -> {
+            List<Response<Map<String, String>>> fields = new ArrayList<>(keys.size());
+            List<Response<String>> versions = new ArrayList<>(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                fields.add(tx.hgetAll(getCacheKey(keys.get(i))));
+                versions.add(tx.get(getCacheKey(versionKeys.get(i))));
+            }
+            return () -> {
+                List<VersionedHash> hashes = new ArrayList<>(keys.size());
+                for (int i = 0; i < keys.size(); i++) {
+                    hashes.add(new VersionedHash(fields.get(i).get(), parseVersion(versions.get(i).get())));
+                }
+                return hashes;
+            };
+        }, failed, "해시 일괄 조회");
     }
 
-    /** 안전한 SCAN 기반 패턴 캐시 삭제 */
-    public void deleteCachePattern(String pattern) {
-        if (!isEnabled()) return;
+    /** 버전 조회 (없으면 0, 실패 시 -1) */
+    public CompletableFuture<Long> getVersion(String versionKey) {
+        return submit(tx -> {
+            Response<String> version = tx.get(getCacheKey(versionKey));
+            return () -> parseVersion(version.get());
+        }, -1L, "버전 조회");
+    }
 
-        try (Jedis jedis = getResource()) {
-            String cursor = "0";
-            String fullPattern = getCacheKey(pattern);
-            do {
-                ScanResult<String> scan = jedis.scan(cursor, new ScanParams().match(fullPattern).count(100));
-                cursor = scan.getCursor();
-                var keys = scan.getResult();
-                if (!keys.isEmpty()) jedis.del(keys.toArray(new String[0]));
-            } while (!cursor.equals("0"));
-        } catch (Exception e) {
-            plugin.getLogger().warning("Redis SCAN 캐시 삭제 실패: " + e.getMessage());
+    /**
+     * 여러 플레이어 버전 조회 (같은 묶음, 왕복 1회)
+     * 실패하거나 비활성화 상태면 모두 -1
+     */
+    public CompletableFuture<long[]> getVersions(List<String> versionKeys) {
+        long[] failed = new long[versionKeys.size()];
+        Arrays.fill(failed, -1L);
+        if (versionKeys.isEmpty()) return CompletableFuture.completedFuture(failed);
+
+        return submit(tx -> {
+            List<Response<String>> responses = new ArrayList<>(versionKeys.size());
+            for (String versionKey : versionKeys) {
+                responses.add(tx.get(getCacheKey(versionKey)));
+            }
+            return () -> {
+                long[] versions = new long[responses.size()];
+                for (int i = 0; i < versions.length; i++) {
+                    versions[i] = parseVersion(responses.get(i).get());
+                }
+                return versions;
+            };
+        }, failed, "버전 일괄 조회");
+    }
+
+    private static long parseVersion(String value) {
+        if (value == null) return 0L;
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0L;
         }
     }
 
-    /** Pub/Sub 메시지 발행 */
+    /** 버전이 붙은 해시 스냅샷 */
+    public record VersionedHash(Map<String, String> fields, long version) {
+    }
+
+    // 버전이 기대값과 같을 때만 해시 전체 교체 (DEL + HSET + EXPIRE)
+    // KEYS: 해시, 버전 / ARGV: 기대 버전, TTL, 필드, 값, 필드, 값...
+    private static final String SET_HASH_IF_VERSION = """
+            local current = redis.call('GET', KEYS[2])
+            if (tonumber(current) or 0) ~= tonumber(ARGV[1]) then return 0 end
+            redis.call('DEL', KEYS[1])
+            if #ARGV > 2 then redis.call('HSET', KEYS[1], unpack(ARGV, 3)) end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """;
+
+    /**
+     * 해시 캐시 전체 교체 (스크립트로 버전 확인 + DEL + HSET + EXPIRE를 원자적으로)
+     * 조회 이후 버전이 바뀌었으면 (다른 쓰기 발생) 오래된 데이터로 덮어쓰지 않음
+     *
+     * @return 저장 여부
+     */
+    public CompletableFuture<Boolean> setHash(String key, String versionKey, Map<String, String> fields, long expectedVersion) {
+        List<String> args = new ArrayList<>(fields.size() * 2 + 2);
+        args.add(String.valueOf(expectedVersion));
+        args.add(String.valueOf(cacheTTL));
+        fields.forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+
+        return submit(tx -> {
+            Response<Object> result = tx.eval(SET_HASH_IF_VERSION,
+                    List.of(getCacheKey(key), getCacheKey(versionKey)), args);
+            return () -> Long.valueOf(1L).equals(result.get());
+        }, false, "해시 저장");
+    }
+
+    /**
+     * 여러 해시 필드 단위 갱신 + 버전 증가 (같은 MULTI, 왕복 1회)
+     * 각 갱신: HSET/HDEL + EXPIRE + INCR 버전
+     * 키가 없으면 로드 완료 표시가 없는 부분 해시가 되어 다음 조회 시 재구성됨
+     *
+     * @return 갱신별 증가된 버전 (실패 시 모두 -1)
+     */
+    public CompletableFuture<long[]> updateHashes(List<HashUpdate> updates) {
+        long[] failed = new long[updates.size()];
+        Arrays.fill(failed, -1L);
+        if (updates.isEmpty()) return CompletableFuture.completedFuture(failed);
+
+        return submit(tx -> {
+            List<Response<Long>> responses = new ArrayList<>(updates.size());
+
+            for (HashUpdate update : updates) {
+                String fullKey = getCacheKey(update.key());
+                String fullVersionKey = getCacheKey(update.versionKey());
+
+                if (!update.setFields().isEmpty()) {
+                    tx.hset(fullKey, update.setFields());
+                }
+                if (!update.deleteFields().isEmpty()) {
+                    tx.hdel(fullKey, update.deleteFields().toArray(new String[0]));
+                }
+                tx.expire(fullKey, cacheTTL);
+                responses.add(tx.incr(fullVersionKey));
+                tx.expire(fullVersionKey, VERSION_TTL);
+            }
+
+            return () -> {
+                long[] versions = new long[responses.size()];
+                for (int i = 0; i < versions.length; i++) {
+                    versions[i] = responses.get(i).get();
+                }
+                return versions;
+            };
+        }, failed, "해시 갱신");
+    }
+
+    /** 해시 필드 갱신 요청 */
+    public record HashUpdate(String key, String versionKey, Map<String, String> setFields, List<String> deleteFields) {
+    }
+
+    /** 캐시 삭제 */
+    public CompletableFuture<Void> deleteCache(String key) {
+        return submit(tx -> {
+            tx.del(getCacheKey(key));
+            return () -> null;
+        }, null, "캐시 삭제");
+    }
+
+    /**
+     * 안전한 SCAN 기반 패턴 캐시 삭제
+     * 여러 번 왕복하므로 I/O 스레드가 아닌 풀 연결로 콜백 스레드에서 실행
+     */
+    public CompletableFuture<Void> deleteCachePattern(String pattern) {
+        if (!isAvailable()) return CompletableFuture.completedFuture(null);
+
+        return CompletableFuture.runAsync(() -> {
+            try (Jedis jedis = getResource()) {
+                String cursor = "0";
+                String fullPattern = getCacheKey(pattern);
+                do {
+                    ScanResult<String> scan = jedis.scan(cursor, new ScanParams().match(fullPattern).count(100));
+                    cursor = scan.getCursor();
+                    var keys = scan.getResult();
+                    if (!keys.isEmpty()) jedis.del(keys.toArray(new String[0]));
+                } while (!cursor.equals("0"));
+            } catch (Exception e) {
+                circuitBreaker.onFailure(e);
+                plugin.getLogger().warning("Redis SCAN 캐시 삭제 실패: " + e.getMessage());
+            }
+        }, callbackExecutor);
+    }
+
+    /**
+     * Pub/Sub 메시지 발행 (발행기를 통해 묶음 전송)
+     */
     public void publish(String message) {
-        if (!isEnabled()) return;
+        if (!isAvailable() || publisher == null) return;
+        publisher.publish(message);
+    }
 
-        try (Jedis jedis = getResource()) {
-            long subscribers = jedis.publish(pubsubChannel, message);
-            plugin.getLogger().fine("📢 Title Redis Pub: '%s' → %d subscribers".formatted(message, subscribers));
-        } catch (Exception e) {
-            plugin.getLogger().warning("Redis Pub 실패: " + e.getMessage());
+    /**
+     * Pub/Sub 메시지 핸들러 추가 (메인 스레드 밖에서 실행, 플레이어별 순서 보장)
+     */
+    public synchronized void addHandler(Consumer<String> messageHandler) {
+        if (!isEnabled()) {
+            plugin.getLogger().warning("⚠️ Redis가 비활성화되어 있어 핸들러를 추가할 수 없습니다.");
+            return;
         }
+
+        dispatcher.addHandler(messageHandler);
+        onHandlerAdded();
     }
 
     /**
-     * Pub/Sub 메시지 핸들러 추가
+     * Pub/Sub 메시지 핸들러 추가 (메인 스레드에서 실행, Bukkit API가 필요할 때만)
      */
-    public synchronized void addHandler(Consumer<String> messageHandler) {
+    public synchronized void addMainThreadHandler(Consumer<String> messageHandler) {
         if (!isEnabled()) {
             plugin.getLogger().warning("⚠️ Redis가 비활성화되어 있어 핸들러를 추가할 수 없습니다.");
             return;
         }
 
-        messageHandlers.add(messageHandler);
-        plugin.getLogger().info("✅ Title Redis 핸들러 추가됨 (총 %d개)".formatted(messageHandlers.size()));
+        dispatcher.addMainThreadHandler(messageHandler);
+        onHandlerAdded();
+    }
+
+    private void onHandlerAdded() {
+        plugin.getLogger().info("✅ Title Redis 핸들러 추가됨 (총 %d개)".formatted(dispatcher.getHandlerCount()));
 
         // 첫 번째 핸들러가 추가될 때 Pub/Sub 시작
         if (!subscribeStarted) {
@@ -197,48 +565,26 @@ public class TitleRedisManager {
     }
 
     /**
-     * Pub/Sub 구독 시작 (비동기)
+     * 재연결 후 재검증 리스너 추가 (수신 스레드에서 호출됨)
      */
-    private void startSubscribe() {
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
-            try (Jedis jedis = getResource()) {
-                plugin.getLogger().info("🔧 Title Redis Pub/Sub 구독 시작: %s".formatted(pubsubChannel));
-
-                jedis.subscribe(new JedisPubSub() {
-                    @Override
-                    public void onMessage(String channel, String message) {
-                        // 메인 스레드에서 모든 핸들러 실행
-                        plugin.getServer().getScheduler().runTask(plugin, () -> {
-                            plugin.getLogger().fine("📨 Title Redis 메시지 수신: '%s'".formatted(message));
-
-                            for (Consumer<String> handler : messageHandlers) {
-                                try {
-                                    handler.accept(message);
-                                } catch (Exception e) {
-                                    plugin.getLogger().warning("Title Redis 핸들러 실행 중 오류: " + e.getMessage());
-                                    e.printStackTrace();
-                                }
-                            }
-                        });
-                    }
-
-                    @Override
-                    public void onSubscribe(String channel, int subscribedChannels) {
-                        plugin.getLogger().info("✅ Title Redis 구독 완료: %s".formatted(channel));
-                    }
-
-                    @Override
-                    public void onUnsubscribe(String channel, int subscribedChannels) {
-                        plugin.getLogger().info("🔕 Title Redis 구독 해제: %s".formatted(channel));
-                    }
-                }, pubsubChannel);
+    public void addResyncListener(Runnable listener) {
+        resyncListeners.add(listener);
+    }
 
-            } catch (Exception e) {
-                plugin.getLogger().severe("❌ Title Redis Pub/Sub 오류: " + e.getMessage());
-                e.printStackTrace();
-                subscribeStarted = false; // 재시도 가능하도록
-            }
-        });
+    private void fireResync() {
+        for (Runnable listener : resyncListeners) {
+            listener.run();
+        }
+    }
+
+    /**
+     * 동기화 수신 시작 (전용 스레드, 끊기면 자동 재연결)
+     */
+    private void startSubscribe() {
+        subscriber = new TitleSyncSubscriber(plugin, this::getResource, transport,
+                pubsubChannel, streamKey, "title-" + serverId,
+                dispatcher::dispatch, this::fireResync);
+        subscriber.start();
     }
 
     /** Pub/Sub 채널 이름 */
@@ -248,6 +594,6 @@ public class TitleRedisManager {
 
     /** 등록된 핸들러 개수 */
     public int getHandlerCount() {
-        return messageHandlers.size();
+        return dispatcher.getHandlerCount();
     }
 }
@@ -0,0 +1,234 @@
+package com.dotorimaru.title.database;
+
+import com.dotorimaru.title.metrics.LatencyHistogram;
+import org.bukkit.plugin.java.JavaPlugin;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Transaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 비동기 Redis 실행기 (TitleRedisManager 전용)
+ * 전용 연결 하나와 I/O 스레드 하나로 요청을 처리하고, 호출자는 CompletableFuture만 받음
+ *
+ * - 대기 중인 요청을 모아 MULTI/EXEC 하나로 전송 (자동 파이프라이닝, 왕복 1회)
+ * - 같은 묶음의 명령은 원자적으로 실행되므로 해시 + 버전처럼 함께 읽어야 하는 값도 일관됨
+ * - 결과는 I/O 스레드가 아닌 completionExecutor에서 완료 (콜백이 I/O를 막지 않도록)
+ */
+public class TitleRedisPipeline {
+
+    /**
+     * 묶음에 넣을 명령
+     * 트랜잭션에 명령을 쌓고, EXEC 후 결과를 꺼낼 Supplier를 반환
+     */
+    @FunctionalInterface
+    public interface Command<T> {
+        Supplier<T> queue(Transaction tx);
+    }
+
+    private record Pending<T>(Command<T> command, CompletableFuture<T> future) {
+    }
+
+    private final JavaPlugin plugin;
+    private final Supplier<Jedis> connectionFactory;
+    private final TitleRedisCircuitBreaker circuitBreaker;
+    private final Executor completionExecutor;
+    private final int maxBatch;
+
+    private final BlockingQueue<Pending<?>> queue = new LinkedBlockingQueue<>();
+    private volatile boolean running = false;
+    private Thread thread;
+
+    // I/O 스레드 전용
+    private Jedis connection;
+
+    // 지표
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong roundTrips = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final LatencyHistogram roundTripLatency = new LatencyHistogram();
+
+    public TitleRedisPipeline(JavaPlugin plugin, Supplier<Jedis> connectionFactory, Executor completionExecutor,
+                              TitleRedisCircuitBreaker circuitBreaker) {
+        this.plugin = plugin;
+        this.connectionFactory = connectionFactory;
+        this.circuitBreaker = circuitBreaker;
+        this.completionExecutor = completionExecutor;
+        this.maxBatch = Math.max(1, plugin.getConfig().getInt("database.redis.async.max-batch", 256));
+    }
+
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+
+        thread = new Thread(this::runLoop, "Title-Redis-IO");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 명령 예약 (호출 스레드를 막지 않음)
+     */
+    public <T> CompletableFuture<T> submit(Command<T> command) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        if (!running) {
+            future.completeExceptionally(new IllegalStateException("Redis I/O 스레드가 실행 중이 아닙니다."));
+            return future;
+        }
+
+        submitted.incrementAndGet();
+        queue.add(new Pending<>(command, future));
+        return future;
+    }
+
+    private void runLoop() {
+        List<Pending<?>> batch = new ArrayList<>(maxBatch);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending<?> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+
+                batch.add(first);
+                queue.drainTo(batch, maxBatch - 1);
+                execute(batch);
+            } catch (InterruptedException e) {
+                if (!running) break;
+            } finally {
+                batch.clear();
+            }
+        }
+
+        closeConnection();
+        failRemaining();
+    }
+
+    private void execute(List<Pending<?>> batch) {
+        List<Supplier<?>> results = new ArrayList<>(batch.size());
+
+        // 차단 중 - 연결을 시도하지 않고 묶음 전체 실패 (차단 전에 쌓인 명령)
+        if (!circuitBreaker.isClosed()) {
+            failed.addAndGet(batch.size());
+            IllegalStateException error = new IllegalStateException("Redis 장애로 차단됨");
+            List<Pending<?>> rejectedBatch = new ArrayList<>(batch);
+            completionExecutor.execute(() -> rejectedBatch.forEach(p -> p.future().completeExceptionally(error)));
+            return;
+        }
+
+        try {
+            if (connection == null || !connection.isConnected() || connection.isBroken()) {
+                closeConnection();
+                connection = connectionFactory.get();
+            }
+
+            long start = System.nanoTime();
+            Transaction tx = connection.multi();
+            for (Pending<?> pending : batch) {
+                results.add(pending.command().queue(tx));
+            }
+            tx.exec();
+            circuitBreaker.onSuccess();
+            roundTrips.incrementAndGet();
+            roundTripLatency.recordSince(start);
+
+        } catch (Exception e) {
+            // 연결 오류 - 묶음 전체 실패, 다음 묶음에서 다시 연결
+            closeConnection();
+            failed.addAndGet(batch.size());
+            circuitBreaker.onFailure(e);
+            if (circuitBreaker.isClosed()) {
+                plugin.getLogger().warning("Redis 비동기 명령 실패 (%d개): %s".formatted(batch.size(), e.getMessage()));
+            }
+
+            List<Pending<?>> failedBatch = new ArrayList<>(batch);
+            completionExecutor.execute(() -> failedBatch.forEach(p -> p.future().completeExceptionally(e)));
+            return;
+        }
+
+        List<Pending<?>> completed = new ArrayList<>(batch);
+        completionExecutor.execute(() -> {
+            for (int i = 0; i < completed.size(); i++) {
+                complete(completed.get(i), results.get(i));
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void complete(Pending<T> pending, Supplier<?> result) {
+        try {
+            pending.future().complete((T) result.get());
+        } catch (Exception e) {
+            // 개별 명령 오류 (WRONGTYPE 등)
+            pending.future().completeExceptionally(e);
+        }
+    }
+
+    private void closeConnection() {
+        if (connection == null) return;
+        try {
+            connection.close();
+        } catch (Exception ignored) {
+            // 이미 끊김
+        }
+        connection = null;
+    }
+
+    private void failRemaining() {
+        Pending<?> pending;
+        IllegalStateException error = new IllegalStateException("Redis I/O 스레드가 종료되었습니다.");
+        while ((pending = queue.poll()) != null) {
+            pending.future().completeExceptionally(error);
+        }
+    }
+
+    /**
+     * 종료 - 남은 명령을 처리한 뒤 연결 정리 (최대 2초)
+     */
+    public synchronized void shutdown() {
+        if (!running) return;
+        running = false;
+
+        if (thread != null) {
+            try {
+                thread.join(2000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread.interrupt();
+        }
+    }
+
+    // ========================================
+    // 지표
+    // ========================================
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getSubmitted() {
+        return submitted.get();
+    }
+
+    /** 실제 왕복 수 (묶음 수) */
+    public long getRoundTrips() {
+        return roundTrips.get();
+    }
+
+    /** MULTI/EXEC 묶음 하나의 왕복 시간 */
+    public LatencyHistogram getRoundTripLatency() {
+        return roundTripLatency;
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+}
@@ -0,0 +1,371 @@
+package com.dotorimaru.title.database;
+
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 칭호 테이블 스키마 관리 + 무중단 이전 (TitleStorage 전용)
+ *
+ * 스키마 2:
+ * - title_catalog      : 칭호 이름 ↔ INT ID
+ * - player_titles_v2   : (uuid BINARY(16), title_id INT, obtained_at)
+ * - selected_titles_v2 : (uuid BINARY(16), title_id INT, updated_at)
+ *
+ * 이전 (구 player_titles / selected_titles → v2):
+ * - 플레이어 단위로 한 트랜잭션에서 복사(INSERT IGNORE) 후 구 테이블 행 삭제
+ * - 조회/쓰기 전에 해당 플레이어를 먼저 옮기므로 (migratePlayers) 이전 중에도 새 테이블만 읽고 씀
+ * - 한 번 옮긴 플레이어는 기억해 다시 조회하지 않고, 이전이 끝나면 호출 자체를 생략 (isComplete)
+ * - 나머지는 백그라운드 스레드가 조금씩 옮기고, 옮길 행(표준 형식 UUID)이 없으면 스키마 버전을 2로 기록
+ */
+public class TitleSchemaMigrator {
+
+    public static final int SCHEMA_VERSION = 2;
+
+    private static final String META_TABLE = "title_schema";
+
+    // 옮길 수 있는 구 테이블 행 (표준 형식 UUID) - 나머지는 옮기지도 지우지도 않으므로 조회에서 제외
+    private static final String VALID_UUID_PATTERN =
+        "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$";
+
+    private static final String CREATE_META_TABLE = """
+        CREATE TABLE IF NOT EXISTS `%s` (
+            `name` VARCHAR(64) PRIMARY KEY,
+            `value` VARCHAR(255) NOT NULL,
+            `updated_at` BIGINT NOT NULL
+        ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+        """;
+
+    private static final String CREATE_CATALOG_TABLE = """
+        CREATE TABLE IF NOT EXISTS `%s` (
+            `id` INT UNSIGNED NOT NULL AUTO_INCREMENT PRIMARY KEY,
+            `title_name` VARCHAR(200) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL,
+            `created_at` BIGINT NOT NULL,
+            UNIQUE KEY `uk_title_name` (`title_name`)
+        ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_bin;
+        """;
+
+    // 기본 키 (uuid, title_id)의 앞부분이 uuid 조회를 처리하므로 별도 인덱스 없음
+    private static final String CREATE_PLAYER_TITLES_TABLE = """
+        CREATE TABLE IF NOT EXISTS `%s` (
+            `uuid` BINARY(16) NOT NULL,
+            `title_id` INT UNSIGNED NOT NULL,
+            `obtained_at` BIGINT NOT NULL,
+            PRIMARY KEY (`uuid`, `title_id`)
+        ) ENGINE=InnoDB;
+        """;
+
+    private static final String CREATE_SELECTED_TITLE_TABLE = """
+        CREATE TABLE IF NOT EXISTS `%s` (
+            `uuid` BINARY(16) NOT NULL PRIMARY KEY,
+            `title_id` INT UNSIGNED NOT NULL,
+            `updated_at` BIGINT NOT NULL
+        ) ENGINE=InnoDB;
+        """;
+
+    private final JavaPlugin plugin;
+    private final TitleMySQLManager mysql;
+    private final String catalogTable;
+    private final String playerTitlesTable;
+    private final String selectedTitleTable;
+    private final String legacyPlayerTitlesTable;
+    private final String legacySelectedTitleTable;
+
+    private final int batchSize;
+    private final long pauseMillis;
+
+    private volatile boolean complete = false;
+    // 이전 중 이미 옮긴 플레이어 (이전이 끝나면 비움)
+    private final Set<UUID> migrated = ConcurrentHashMap.newKeySet();
+    private volatile boolean prepared = false;
+    private boolean legacyTitlesExists = false;
+    private boolean legacySelectedExists = false;
+    private volatile boolean running = false;
+    private Thread thread;
+
+    // 지표
+    private final AtomicLong migratedPlayers = new AtomicLong();
+
+    public TitleSchemaMigrator(JavaPlugin plugin, TitleMySQLManager mysql,
+                               String catalogTable, String playerTitlesTable, String selectedTitleTable,
+                               String legacyPlayerTitlesTable, String legacySelectedTitleTable) {
+        this.plugin = plugin;
+        this.mysql = mysql;
+        this.catalogTable = catalogTable;
+        this.playerTitlesTable = playerTitlesTable;
+        this.selectedTitleTable = selectedTitleTable;
+        this.legacyPlayerTitlesTable = legacyPlayerTitlesTable;
+        this.legacySelectedTitleTable = legacySelectedTitleTable;
+
+        this.batchSize = Math.max(1, plugin.getConfig().getInt("database.mysql.migration.batch-size", 500));
+        this.pauseMillis = Math.max(0L, plugin.getConfig().getLong("database.mysql.migration.pause-ms", 50L));
+    }
+
+    /**
+     * 테이블 생성 + 이전 필요 여부 확인 (시작 시, 호출 스레드에서 블로킹)
+     */
+    public void prepare(Connection conn) throws SQLException {
+        try (var stmt = conn.createStatement()) {
+            stmt.execute(CREATE_META_TABLE.formatted(META_TABLE));
+            stmt.execute(CREATE_CATALOG_TABLE.formatted(catalogTable));
+            stmt.execute(CREATE_PLAYER_TITLES_TABLE.formatted(playerTitlesTable));
+            stmt.execute(CREATE_SELECTED_TITLE_TABLE.formatted(selectedTitleTable));
+        }
+
+        if (readSchemaVersion(conn) >= SCHEMA_VERSION) {
+            complete = true;
+            return;
+        }
+
+        legacyTitlesExists = tableExists(conn, legacyPlayerTitlesTable);
+        legacySelectedExists = tableExists(conn, legacySelectedTitleTable);
+        if (!legacyTitlesExists && !legacySelectedExists) {
+            // 새로 설치 - 옮길 데이터 없음
+            writeSchemaVersion(conn);
+            complete = true;
+            return;
+        }
+
+        prepared = true;
+        plugin.getLogger().info("🔄 칭호 테이블 이전 필요 (%s, %s → 스키마 %d)".formatted(
+            legacyPlayerTitlesTable, legacySelectedTitleTable, SCHEMA_VERSION));
+    }
+
+    /**
+     * 호출자의 트랜잭션 안에서 옮긴 플레이어 기록 (그 트랜잭션이 커밋된 뒤 호출)
+     */
+    public void markMigrated(Collection<UUID> uuids) {
+        if (complete || !prepared) return;
+        migrated.addAll(uuids);
+    }
+
+    /** 이전이 끝났는지 (끝났으면 migratePlayers 불필요) */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * 백그라운드 이전 시작 (prepare에서 이전할 데이터를 확인했을 때만)
+     */
+    public synchronized void start() {
+        if (complete || !prepared || running) return;
+        running = true;
+
+        thread = new Thread(this::runLoop, "Title-Migration");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public synchronized void shutdown() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void runLoop() {
+        long start = System.currentTimeMillis();
+
+        while (running && !complete) {
+            try {
+                // 저장소 실행기의 동시 실행 제한을 따름 (접속 처리와 연결을 나눠 씀)
+                boolean[] done = {false};
+                SQLException[] error = {null};
+                mysql.getExecutor().runBlocking(() -> {
+                    try {
+                        done[0] = migrateNextBatch();
+                    } catch (SQLException e) {
+                        error[0] = e;
+                    }
+                });
+                if (error[0] != null) throw error[0];
+
+                if (done[0]) {
+                    complete = true;
+                    migrated.clear();
+                    plugin.getLogger().info("✅ 칭호 테이블 이전 완료: %d명 (%.1f초), 구 테이블 %s, %s에는 옮길 행이 남아 있지 않습니다.".formatted(
+                        migratedPlayers.get(), (System.currentTimeMillis() - start) / 1000.0,
+                        legacyPlayerTitlesTable, legacySelectedTitleTable));
+                    break;
+                }
+
+                if (pauseMillis > 0) Thread.sleep(pauseMillis);
+
+            } catch (InterruptedException e) {
+                break;
+            } catch (Exception e) {
+                plugin.getLogger().warning("칭호 테이블 이전 오류 (잠시 후 재시도): " + e.getMessage());
+                try {
+                    Thread.sleep(5000L);
+                } catch (InterruptedException ignored) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * 다음 묶음 이전 (남은 플레이어가 없으면 스키마 버전 기록 후 true)
+     */
+    private boolean migrateNextBatch() throws SQLException {
+        try (Connection conn = mysql.getConnection()) {
+            List<UUID> uuids = legacyTitlesExists ? nextLegacyPlayers(conn, legacyPlayerTitlesTable) : List.of();
+            if (uuids.isEmpty() && legacySelectedExists) {
+                uuids = nextLegacyPlayers(conn, legacySelectedTitleTable);
+            }
+
+            // 옮길 수 있는 행이 더 없음 - 잘못된 UUID 행만 남았으면 알리고 완료
+            if (uuids.isEmpty()) {
+                long malformed = (legacyTitlesExists ? countMalformed(conn, legacyPlayerTitlesTable) : 0L)
+                        + (legacySelectedExists ? countMalformed(conn, legacySelectedTitleTable) : 0L);
+                if (malformed > 0) {
+                    plugin.getLogger().warning("⚠️ 구 칭호 테이블에 UUID 형식이 잘못된 행 %d건이 남아 있습니다 (이전하지 않음)."
+                            .formatted(malformed));
+                }
+                writeSchemaVersion(conn);
+                return true;
+            }
+
+            migratePlayers(conn, uuids);
+            return false;
+        }
+    }
+
+    private List<UUID> nextLegacyPlayers(Connection conn, String table) throws SQLException {
+        List<UUID> uuids = new ArrayList<>(batchSize);
+        try (var stmt = conn.prepareStatement("SELECT DISTINCT uuid FROM %s WHERE uuid REGEXP ? LIMIT ?".formatted(table))) {
+            stmt.setString(1, VALID_UUID_PATTERN);
+            stmt.setInt(2, batchSize);
+            try (var rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    uuids.add(UUID.fromString(rs.getString("uuid")));
+                }
+            }
+        }
+        return uuids;
+    }
+
+    private long countMalformed(Connection conn, String table) throws SQLException {
+        try (var stmt = conn.prepareStatement("SELECT COUNT(*) FROM %s WHERE uuid IS NULL OR uuid NOT REGEXP ?".formatted(table))) {
+            stmt.setString(1, VALID_UUID_PATTERN);
+            try (var rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : 0L;
+            }
+        }
+    }
+
+    /**
+     * 플레이어를 새 테이블로 이전 (구 테이블에 남은 행이 있으면)
+     * 호출자의 트랜잭션 안이면 그 일부로, 아니면 자체 트랜잭션으로 실행
+     * 새 테이블에 이미 있는 행은 유지 (INSERT IGNORE) - 이전 후의 쓰기가 항상 이김
+     */
+    public void migratePlayers(Connection conn, Collection<UUID> uuids) throws SQLException {
+        if (complete || !prepared || uuids.isEmpty()) return;
+
+        // 이미 옮긴 플레이어는 다시 조회하지 않음
+        List<UUID> targets = new ArrayList<>(uuids.size());
+        for (UUID uuid : uuids) {
+            if (!migrated.contains(uuid)) targets.add(uuid);
+        }
+        if (targets.isEmpty()) return;
+
+        List<String> ids = new ArrayList<>(targets.size());
+        targets.forEach(uuid -> ids.add(uuid.toString()));
+        String in = TitleCatalog.placeholders(ids.size());
+        long now = System.currentTimeMillis();
+
+        boolean ownTransaction = conn.getAutoCommit();
+        if (ownTransaction) conn.setAutoCommit(false);
+
+        try {
+            // 칭호 이름 등록 (대소문자 구분 비교) → 행 복사 → 구 테이블 정리 (다시 복사되지 않도록)
+            int moved = 0;
+            if (legacyTitlesExists) {
+                execute(conn, ("INSERT IGNORE INTO %s (title_name, created_at) " +
+                        "SELECT DISTINCT title_name COLLATE utf8mb4_bin, ? FROM %s WHERE uuid IN (%s)")
+                        .formatted(catalogTable, legacyPlayerTitlesTable, in), now, ids);
+                execute(conn, ("INSERT IGNORE INTO %s (uuid, title_id, obtained_at) " +
+                        "SELECT UNHEX(REPLACE(p.uuid, '-', '')), c.id, p.obtained_at FROM %s p " +
+                        "JOIN %s c ON c.title_name = p.title_name COLLATE utf8mb4_bin WHERE p.uuid IN (%s)")
+                        .formatted(playerTitlesTable, legacyPlayerTitlesTable, catalogTable, in), null, ids);
+                moved += execute(conn, "DELETE FROM %s WHERE uuid IN (%s)".formatted(legacyPlayerTitlesTable, in), null, ids);
+            }
+            if (legacySelectedExists) {
+                execute(conn, ("INSERT IGNORE INTO %s (title_name, created_at) " +
+                        "SELECT DISTINCT title_name COLLATE utf8mb4_bin, ? FROM %s WHERE uuid IN (%s) AND title_name IS NOT NULL")
+                        .formatted(catalogTable, legacySelectedTitleTable, in), now, ids);
+                execute(conn, ("INSERT IGNORE INTO %s (uuid, title_id, updated_at) " +
+                        "SELECT UNHEX(REPLACE(s.uuid, '-', '')), c.id, s.updated_at FROM %s s " +
+                        "JOIN %s c ON c.title_name = s.title_name COLLATE utf8mb4_bin WHERE s.uuid IN (%s)")
+                        .formatted(selectedTitleTable, legacySelectedTitleTable, catalogTable, in), null, ids);
+                moved += execute(conn, "DELETE FROM %s WHERE uuid IN (%s)".formatted(legacySelectedTitleTable, in), null, ids);
+            }
+
+            if (ownTransaction) {
+                conn.commit();
+                markMigrated(targets);
+            }
+            if (moved > 0) migratedPlayers.addAndGet(targets.size());
+
+        } catch (SQLException e) {
+            if (ownTransaction) conn.rollback();
+            throw e;
+        } finally {
+            if (ownTransaction) conn.setAutoCommit(true);
+        }
+    }
+
+    private static int execute(Connection conn, String sql, Long firstParam, List<String> uuids) throws SQLException {
+        try (var stmt = conn.prepareStatement(sql)) {
+            int index = 1;
+            if (firstParam != null) stmt.setLong(index++, firstParam);
+            for (String uuid : uuids) {
+                stmt.setString(index++, uuid);
+            }
+            return stmt.executeUpdate();
+        }
+    }
+
+    private int readSchemaVersion(Connection conn) throws SQLException {
+        try (var stmt = conn.prepareStatement("SELECT value FROM %s WHERE name = 'schema_version'".formatted(META_TABLE));
+             var rs = stmt.executeQuery()) {
+            if (!rs.next()) return 0;
+            try {
+                return Integer.parseInt(rs.getString("value"));
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+    }
+
+    private void writeSchemaVersion(Connection conn) throws SQLException {
+        try (var stmt = conn.prepareStatement(("INSERT INTO %s (name, value, updated_at) VALUES ('schema_version', ?, ?) " +
+                "ON DUPLICATE KEY UPDATE value = VALUES(value), updated_at = VALUES(updated_at)").formatted(META_TABLE))) {
+            stmt.setString(1, String.valueOf(SCHEMA_VERSION));
+            stmt.setLong(2, System.currentTimeMillis());
+            stmt.executeUpdate();
+        }
+    }
+
+    private static boolean tableExists(Connection conn, String table) throws SQLException {
+        try (var rs = conn.getMetaData().getTables(conn.getCatalog(), null, table, new String[]{"TABLE"})) {
+            return rs.next();
+        }
+    }
+
+    // ========================================
+    // 지표
+    // ========================================
+
+    public long getMigratedPlayers() {
+        return migratedPlayers.get();
+    }
+}
@@ -1,14 +1,19 @@
 package com.dotorimaru.title.database;
 
 import com.dotorimaru.title.TitlePlugin;
-import com.dotorimaru.title.models.Title;
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
+import com.dotorimaru.title.metrics.LatencyHistogram;
+import com.dotorimaru.title.models.OwnedTitles;
+import com.dotorimaru.title.models.TitleSyncEvent;
+import com.dotorimaru.title.utils.UUIDUtils;
+import lombok.Getter;
 
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ObjLongConsumer;
 import java.util.logging.Level;
 
 /**
@@ -17,49 +22,102 @@ import java.util.logging.Level;
  */
 public class TitleStorage {
     
-    private static final String PLAYER_TITLES_TABLE = "player_titles";
-    private static final String SELECTED_TITLE_TABLE = "selected_titles";
-    
-    private static final String CREATE_PLAYER_TITLES_TABLE = """
-        CREATE TABLE IF NOT EXISTS `%s` (
-            `uuid` VARCHAR(36) NOT NULL,
-            `title_name` VARCHAR(200) NOT NULL,
-            `obtained_at` BIGINT NOT NULL,
-            PRIMARY KEY (`uuid`, `title_name`),
-            INDEX `idx_uuid` (`uuid`)
-        ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
-        """;
-    
-    private static final String CREATE_SELECTED_TITLE_TABLE = """
-        CREATE TABLE IF NOT EXISTS `%s` (
-            `uuid` VARCHAR(36) PRIMARY KEY,
-            `title_name` VARCHAR(200),
-            `updated_at` BIGINT NOT NULL
-        ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
-        """;
+    // 스키마 2 (칭호 ID + BINARY(16) UUID), 테이블 정의는 TitleSchemaMigrator
+    private static final String CATALOG_TABLE = "title_catalog";
+    private static final String PLAYER_TITLES_TABLE = "player_titles_v2";
+    private static final String SELECTED_TITLE_TABLE = "selected_titles_v2";
+    
+    // 구 스키마 (uuid VARCHAR(36) + 칭호 이름), 백그라운드에서 v2로 이전
+    private static final String LEGACY_PLAYER_TITLES_TABLE = "player_titles";
+    private static final String LEGACY_SELECTED_TITLE_TABLE = "selected_titles";
+    
+    // Redis 플레이어 해시 (title:p:{uuid}), 숫자는 모두 36진수
+    // 필드: t:{칭호ID} → 획득 시간, @s → 선택 칭호 ID ("" = 없음), @l → 전체 로드 표시
+    // 이름 기반 구형식(title:player:{uuid})은 읽지 않고 TTL 만료로 소멸
+    private static final String HASH_KEY_PREFIX = "p:";
+    private static final String FIELD_TITLE_PREFIX = "t:";
+    private static final String FIELD_SELECTED = "@s";
+    private static final String FIELD_LOADED = "@l";
+    
+    // 플레이어별 동기화 버전 (title:ver:{uuid}, 쓰기마다 INCR)
+    private static final String VERSION_KEY_PREFIX = "ver:";
+    
+    // 일괄 로드 시 IN 쿼리 하나에 넣을 최대 UUID 수
+    private static final int BULK_CHUNK_SIZE = 500;
     
     private final TitlePlugin plugin;
     private final TitleMySQLManager mysql;
     private final TitleRedisManager redis;
-    private final Gson gson = new Gson();
+    
+    @Getter
+    private final TitleCatalog catalog = new TitleCatalog(CATALOG_TABLE);
+    
+    @Getter
+    private final TitleSchemaMigrator migrator;
+    
+    @Getter
+    private final TitleWriteBehindQueue writeQueue;
+    
+    // 지표 - Redis 적중/미스 (플레이어 단위), MySQL 로드 (보유/선택 칭호가 있으면 적중)
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder redisMisses = new LongAdder();
+    private final LongAdder mysqlHits = new LongAdder();
+    private final LongAdder mysqlMisses = new LongAdder();
+    
+    // 지표 - 작업별 지연 시간
+    @Getter
+    private final LatencyHistogram loadLatency = new LatencyHistogram();
+    @Getter
+    private final LatencyHistogram bulkLoadLatency = new LatencyHistogram();
+    @Getter
+    private final LatencyHistogram redisReadLatency = new LatencyHistogram();
+    @Getter
+    private final LatencyHistogram mysqlLoadLatency = new LatencyHistogram();
+    
+    // Redis 장애 중(또는 갱신 실패) MySQL에만 반영된 플레이어 - 복구 시 Redis 해시를 재구성 대상으로 표시
+    private final Set<UUID> staleInRedis = ConcurrentHashMap.newKeySet();
+    
+    // 이 서버의 쓰기가 Redis에서 받은 버전 (로컬 캐시 버전 갱신용)
+    private volatile ObjLongConsumer<UUID> versionListener;
     
     public TitleStorage(TitlePlugin plugin, TitleMySQLManager mysql, TitleRedisManager redis) {
         this.plugin = plugin;
         this.mysql = mysql;
         this.redis = redis;
+        this.migrator = new TitleSchemaMigrator(plugin, mysql, CATALOG_TABLE, PLAYER_TITLES_TABLE, SELECTED_TITLE_TABLE,
+            LEGACY_PLAYER_TITLES_TABLE, LEGACY_SELECTED_TITLE_TABLE);
         
         createTables();
+        this.writeQueue = new TitleWriteBehindQueue(plugin, mysql, catalog, migrator, PLAYER_TITLES_TABLE, SELECTED_TITLE_TABLE);
+        this.writeQueue.setListener(this::onWritesFlushed);
+        this.writeQueue.recover();
+        this.writeQueue.start();
+        redis.addRecoveryTask(this::repairStaleHashes);
+        migrator.start();
     }
     
-    /** 테이블 생성 */
+    /**
+     * 종료 (onDisable) - 대기 중인 쓰기를 모두 반영
+     */
+    public void shutdown() {
+        migrator.shutdown();
+        writeQueue.shutdown();
+    }
+    
+    /**
+     * 이 서버의 쓰기가 Redis에 반영되어 받은 버전 (쓰기 순서대로, 발행 전에 호출)
+     */
+    public void setVersionListener(ObjLongConsumer<UUID> listener) {
+        this.versionListener = listener;
+    }
+    
+    /** 테이블 생성 + 칭호 목록 로드 */
     private void createTables() {
-        try (Connection conn = mysql.getConnection();
-             var stmt = conn.createStatement()) {
+        try (Connection conn = mysql.getConnection()) {
+            migrator.prepare(conn);
+            catalog.load(conn);
             
-            stmt.execute(CREATE_PLAYER_TITLES_TABLE.formatted(PLAYER_TITLES_TABLE));
-            stmt.execute(CREATE_SELECTED_TITLE_TABLE.formatted(SELECTED_TITLE_TABLE));
-            
-            plugin.getLogger().info("✅ 칭호 테이블 확인/생성 완료");
+            plugin.getLogger().info("✅ 칭호 테이블 확인/생성 완료 (칭호 종류 %d개)".formatted(catalog.size()));
             
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "❌ 테이블 생성 실패", e);
@@ -69,199 +127,557 @@ public class TitleStorage {
     /**
      * 플레이어의 모든 칭호 로드 (비동기)
      */
-    public CompletableFuture<Map<String, Title>> loadPlayerTitles(UUID uuid) {
-        CompletableFuture<Map<String, Title>> future = new CompletableFuture<>();
+    public CompletableFuture<OwnedTitles> loadPlayerTitles(UUID uuid) {
+        return loadPlayerData(uuid).thenApply(PlayerTitleData::titles);
+    }
+    
+    /**
+     * 선택된 칭호 조회 (비동기)
+     */
+    public CompletableFuture<String> getSelectedTitle(UUID uuid) {
+        return loadPlayerData(uuid)
+            .thenApply(data -> data.selectedId() != 0 ? catalog.nameOf(data.selectedId()) : null)
+            .exceptionally(ex -> {
+                plugin.getLogger().severe("❌ 선택된 칭호 조회 실패: " + ex.getMessage());
+                return null;
+            });
+    }
+    
+    /**
+     * 보유/선택 칭호 함께 로드 (비동기, 호출 스레드를 막지 않음)
+     * Redis 해시 → MySQL 순서, 완료 시점에는 모든 칭호 ID의 이름이 TitleCatalog에 있음
+     */
+    public CompletableFuture<PlayerTitleData> loadPlayerData(UUID uuid) {
+        long start = System.nanoTime();
+        return readCached(uuid).thenCompose(cached -> cached != null
+            ? resolveCatalog(List.of(cached)).thenApply(done -> cached)
+            : loadFromDatabase(uuid))
+            .whenComplete((data, ex) -> loadLatency.recordSince(start));
+    }
+    
+    /**
+     * 여러 플레이어 보유/선택 칭호 일괄 로드 (비동기)
+     * Redis는 왕복 1회, 캐시에 없는 플레이어만 MySQL IN 쿼리로 묶어서 조회
+     * 조회에 실패한 플레이어는 결과에 포함되지 않음
+     */
+    public CompletableFuture<Map<UUID, PlayerTitleData>> loadPlayerDataBulk(Collection<UUID> uuids) {
+        List<UUID> ids = List.copyOf(new LinkedHashSet<>(uuids));
+        if (ids.isEmpty()) return CompletableFuture.completedFuture(new HashMap<>());
         
-        // 1. Redis 캐시 확인
-        if (redis.isEnabled()) {
-            String cached = redis.getCache("titles:" + uuid);
-            if (cached != null) {
-                try {
-                    Map<String, Title> titles = gson.fromJson(cached, 
-                        new TypeToken<Map<String, Title>>(){}.getType());
-                    future.complete(titles);
-                    return future;
-                } catch (Exception e) {
-                    plugin.getLogger().warning("Redis 캐시 파싱 실패: " + e.getMessage());
-                }
+        long start = System.nanoTime();
+        return readCachedBulk(ids).thenCompose(read -> {
+            CompletableFuture<Void> resolved = resolveCatalog(read.cached().values());
+            if (read.missing().isEmpty()) {
+                return resolved.thenApply(done -> read.cached());
             }
+            return resolved.thenCombine(loadFromDatabaseBulk(read.missing()), (done, loaded) -> {
+                read.cached().putAll(loaded);
+                return read.cached();
+            });
+        }).whenComplete((loaded, ex) -> bulkLoadLatency.recordSince(start));
+    }
+    
+    /**
+     * 여러 플레이어 보유 칭호 일괄 로드 (비동기)
+     */
+    public CompletableFuture<Map<UUID, OwnedTitles>> loadPlayerTitlesBulk(Collection<UUID> uuids) {
+        return loadPlayerDataBulk(uuids).thenApply(loaded -> {
+            Map<UUID, OwnedTitles> titles = new HashMap<>(loaded.size());
+            loaded.forEach((uuid, data) -> titles.put(uuid, data.titles()));
+            return titles;
+        });
+    }
+    
+    /**
+     * 여러 플레이어 선택 칭호 일괄 조회 (비동기)
+     * 선택 칭호가 없는 플레이어는 결과에 포함되지 않음
+     */
+    public CompletableFuture<Map<UUID, String>> getSelectedTitlesBulk(Collection<UUID> uuids) {
+        return loadPlayerDataBulk(uuids).thenApply(loaded -> {
+            Map<UUID, String> selected = new HashMap<>(loaded.size());
+            loaded.forEach((uuid, data) -> {
+                String name = data.selectedId() != 0 ? catalog.nameOf(data.selectedId()) : null;
+                if (name != null) selected.put(uuid, name);
+            });
+            return selected;
+        });
+    }
+    
+    /**
+     * 여러 플레이어의 현재 동기화 버전 조회 (왕복 1회)
+     * 조회 실패 시 해당 값은 -1
+     */
+    public CompletableFuture<long[]> getVersions(List<UUID> uuids) {
+        List<String> keys = new ArrayList<>(uuids.size());
+        for (UUID uuid : uuids) {
+            keys.add(VERSION_KEY_PREFIX + uuid);
         }
+        return redis.getVersions(keys);
+    }
+    
+    /**
+     * 플레이어 칭호 상태 (보유 칭호 + 선택 칭호 ID + 동기화 버전)
+     * selectedId: 0 = 선택 없음
+     * version: 이 상태를 읽은 시점의 title:ver:{uuid} 값 (Redis 비활성화 시 0)
+     */
+    public record PlayerTitleData(OwnedTitles titles, int selectedId, long version) {
+    }
+    
+    /**
+     * Redis 캐시 조회 (없으면 null로 완료)
+     */
+    private CompletableFuture<PlayerTitleData> readCached(UUID uuid) {
+        if (!redis.isAvailable()) return CompletableFuture.completedFuture(null);
         
-        // 2. MySQL에서 로드 (Core 1.1.7 호환)
-        CompletableFuture.runAsync(() -> {
-            String sql = "SELECT title_name, obtained_at FROM %s WHERE uuid = ?".formatted(PLAYER_TITLES_TABLE);
+        long start = System.nanoTime();
+        return redis.getVersionedHash(HASH_KEY_PREFIX + uuid, VERSION_KEY_PREFIX + uuid).thenApply(hash -> {
+            redisReadLatency.recordSince(start);
+            if (hash == null || !hash.fields().containsKey(FIELD_LOADED)) {
+                redisMisses.increment();
+                return null;
+            }
+            redisHits.increment();
+            return decodeHash(hash.fields(), hash.version());
+        });
+    }
+    
+    /**
+     * 캐시에서 읽은 칭호 ID 중 이 서버가 모르는 것(다른 서버가 추가한 칭호)의 이름 조회
+     * 모두 알고 있으면 MySQL을 거치지 않음
+     */
+    private CompletableFuture<Void> resolveCatalog(Collection<PlayerTitleData> loaded) {
+        Set<Integer> unknown = new HashSet<>();
+        for (PlayerTitleData data : loaded) {
+            unknown.addAll(catalog.unknownIds(data.titles(), data.selectedId()));
+        }
+        if (unknown.isEmpty()) return CompletableFuture.completedFuture(null);
+        
+        return mysql.getExecutor().supply(() -> {
+            try (var conn = mysql.getConnection()) {
+                catalog.resolveNames(conn, unknown);
+            }
+            return null;
+        });
+    }
+    
+    /**
+     * 일괄 Redis 조회 결과
+     *
+     * @param cached  캐시에서 찾은 플레이어
+     * @param missing 캐시에 없는 플레이어 → 조회 시점의 버전 (MySQL 로드에 사용)
+     */
+    private record BulkRead(Map<UUID, PlayerTitleData> cached, Map<UUID, Long> missing) {
+    }
+    
+    /**
+     * Redis 일괄 조회 (해시 + 버전을 묶음 하나로)
+     */
+    private CompletableFuture<BulkRead> readCachedBulk(List<UUID> uuids) {
+        if (!redis.isAvailable()) {
+            Map<UUID, Long> missing = new LinkedHashMap<>();
+            uuids.forEach(uuid -> missing.put(uuid, 0L));
+            return CompletableFuture.completedFuture(new BulkRead(new HashMap<>(), missing));
+        }
+        
+        List<String> keys = new ArrayList<>(uuids.size());
+        List<String> versionKeys = new ArrayList<>(uuids.size());
+        for (UUID uuid : uuids) {
+            keys.add(HASH_KEY_PREFIX + uuid);
+            versionKeys.add(VERSION_KEY_PREFIX + uuid);
+        }
+        
+        long start = System.nanoTime();
+        return redis.getVersionedHashes(keys, versionKeys).thenApply(hashes -> {
+            redisReadLatency.recordSince(start);
+            Map<UUID, PlayerTitleData> cached = new HashMap<>(uuids.size());
+            Map<UUID, Long> missing = new LinkedHashMap<>();
             
-            try (var conn = mysql.getConnection();
-                 var stmt = conn.prepareStatement(sql)) {
-                
-                stmt.setString(1, uuid.toString());
+            for (int i = 0; i < uuids.size(); i++) {
+                UUID uuid = uuids.get(i);
+                TitleRedisManager.VersionedHash hash = hashes.get(i);
                 
-                try (var rs = stmt.executeQuery()) {
-                    Map<String, Title> titles = new HashMap<>();
-                    
-                    while (rs.next()) {
-                        Title title = Title.builder()
-                            .playerUUID(uuid)
-                            .titleName(rs.getString("title_name"))
-                            .obtainedAt(rs.getLong("obtained_at"))
-                            .build();
-                        titles.put(title.getTitleName(), title);
-                    }
-                    
-                    // Redis 캐시 저장
-                    if (redis.isEnabled()) {
-                        redis.setCache("titles:" + uuid, gson.toJson(titles));
-                    }
-                    
-                    future.complete(titles);
+                if (hash == null) {
+                    missing.put(uuid, 0L);
+                } else if (hash.fields().containsKey(FIELD_LOADED)) {
+                    cached.put(uuid, decodeHash(hash.fields(), hash.version()));
+                } else {
+                    missing.put(uuid, hash.version());
                 }
-                
-            } catch (SQLException e) {
-                plugin.getLogger().severe("칭호 로드 실패: " + e.getMessage());
-                future.completeExceptionally(e);
             }
+            redisHits.add(cached.size());
+            redisMisses.add(missing.size());
+            return new BulkRead(cached, missing);
         });
-        
-        return future;
     }
     
     /**
-     * 칭호 추가 (비동기)
+     * MySQL 일괄 로드 (BULK_CHUNK_SIZE명씩 나눠 저장소 실행기에서 병렬로) 후 Redis 해시 재구성
      */
-    public CompletableFuture<Boolean> addTitle(UUID uuid, String titleName) {
-        CompletableFuture<Boolean> future = new CompletableFuture<>();
+    private CompletableFuture<Map<UUID, PlayerTitleData>> loadFromDatabaseBulk(Map<UUID, Long> versions) {
+        List<UUID> uuids = new ArrayList<>(versions.keySet());
+        List<CompletableFuture<Map<UUID, PlayerTitleData>>> chunks = new ArrayList<>();
         
-        String sql = "INSERT INTO %s (uuid, title_name, obtained_at) VALUES (?, ?, ?) " +
-                     "ON DUPLICATE KEY UPDATE obtained_at = VALUES(obtained_at)";
+        for (int from = 0; from < uuids.size(); from += BULK_CHUNK_SIZE) {
+            List<UUID> chunk = uuids.subList(from, Math.min(from + BULK_CHUNK_SIZE, uuids.size()));
+            chunks.add(mysql.getExecutor().supply(() -> queryChunk(chunk, versions)).exceptionally(ex -> {
+                plugin.getLogger().severe("칭호 일괄 로드 실패 (%d명): %s".formatted(chunk.size(), ex.getMessage()));
+                return Map.of();
+            }));
+        }
         
-        mysql.asyncUpdate(sql.formatted(PLAYER_TITLES_TABLE), result -> {
-            boolean success = result != null && result > 0;
-            
-            if (success && redis.isEnabled()) {
-                redis.deleteCache("titles:" + uuid);
-                redis.publish("title-add:" + uuid + ":" + titleName);
+        return CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).thenApply(done -> {
+            Map<UUID, PlayerTitleData> loaded = new HashMap<>(uuids.size());
+            for (CompletableFuture<Map<UUID, PlayerTitleData>> chunk : chunks) {
+                loaded.putAll(chunk.join());
             }
             
-            future.complete(success);
-        }, uuid.toString(), titleName, System.currentTimeMillis());
+            // Redis 캐시 저장 (자동 파이프라이닝으로 묶여서 전송, 결과를 기다리지 않음)
+            if (redis.isAvailable()) {
+                loaded.forEach((uuid, data) ->
+                    redis.setHash(HASH_KEY_PREFIX + uuid, VERSION_KEY_PREFIX + uuid, encodeHash(data), data.version()));
+            }
+            return loaded;
+        });
+    }
+    
+    /** UUID 묶음 하나의 보유/선택 칭호 조회 (호출 스레드에서 블로킹, 쿼리 2회) */
+    private Map<UUID, PlayerTitleData> queryChunk(List<UUID> chunk, Map<UUID, Long> versions) throws SQLException {
+        long start = System.nanoTime();
+        Map<UUID, TitleRows> rows = new HashMap<>(chunk.size());
+        Map<UUID, Integer> selectedIds = new HashMap<>(chunk.size());
+        Set<Integer> ids = new HashSet<>();
+        String placeholders = TitleCatalog.placeholders(chunk.size());
         
-        return future;
+        try (var conn = mysql.getConnection()) {
+            if (!migrator.isComplete()) {
+                migrator.migratePlayers(conn, chunk);
+            }
+            
+            String titleSql = "SELECT uuid, title_id, obtained_at FROM %s WHERE uuid IN (%s)"
+                .formatted(PLAYER_TITLES_TABLE, placeholders);
+            try (var stmt = conn.prepareStatement(titleSql)) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    stmt.setBytes(i + 1, UUIDUtils.toBytes(chunk.get(i)));
+                }
+                try (var rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        int id = rs.getInt("title_id");
+                        rows.computeIfAbsent(UUIDUtils.fromBytes(rs.getBytes("uuid")), k -> new TitleRows())
+                            .add(id, rs.getLong("obtained_at"));
+                        ids.add(id);
+                    }
+                }
+            }
+            
+            String selectedSql = "SELECT uuid, title_id FROM %s WHERE uuid IN (%s)"
+                .formatted(SELECTED_TITLE_TABLE, placeholders);
+            try (var stmt = conn.prepareStatement(selectedSql)) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    stmt.setBytes(i + 1, UUIDUtils.toBytes(chunk.get(i)));
+                }
+                try (var rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        int id = rs.getInt("title_id");
+                        selectedIds.put(UUIDUtils.fromBytes(rs.getBytes("uuid")), id);
+                        ids.add(id);
+                    }
+                }
+            }
+            
+            // 이름은 TitleCatalog에만 둠 (처음 보는 ID만 조회)
+            catalog.resolveNames(conn, ids);
+            Map<UUID, PlayerTitleData> loaded = new HashMap<>(chunk.size());
+            for (UUID uuid : chunk) {
+                TitleRows titleRows = rows.get(uuid);
+                OwnedTitles titles = titleRows != null ? titleRows.toOwnedTitles() : OwnedTitles.EMPTY;
+                int selectedId = selectedIds.getOrDefault(uuid, 0);
+                loaded.put(uuid, new PlayerTitleData(titles, selectedId, Math.max(0L, versions.get(uuid))));
+                recordMysqlLoad(titles, selectedId);
+            }
+            mysqlLoadLatency.recordSince(start);
+            return loaded;
+        }
     }
     
     /**
-     * 칭호 삭제 (비동기)
+     * MySQL에서 보유/선택 칭호 로드 후 Redis 해시 재구성 (비동기)
      */
-    public CompletableFuture<Boolean> deleteTitle(UUID uuid, String titleName) {
-        CompletableFuture<Boolean> future = new CompletableFuture<>();
+    private CompletableFuture<PlayerTitleData> loadFromDatabase(UUID uuid) {
+        // 버전을 먼저 읽음 - 조회 도중 반영된 쓰기는 이후 버전의 이벤트로 도착
+        CompletableFuture<Long> version = redis.isAvailable()
+            ? redis.getVersion(VERSION_KEY_PREFIX + uuid).thenApply(v -> Math.max(0L, v))
+            : CompletableFuture.completedFuture(0L);
         
-        String sql = "DELETE FROM %s WHERE uuid = ? AND title_name = ?";
+        return version.thenCompose(v -> mysql.getExecutor().supply(() -> {
+            long start = System.nanoTime();
+            try (var conn = mysql.getConnection()) {
+                if (!migrator.isComplete()) {
+                    migrator.migratePlayers(conn, List.of(uuid));
+                }
+                OwnedTitles titles = queryPlayerTitles(conn, uuid);
+                int selectedId = querySelectedTitle(conn, uuid);
+                catalog.resolveNames(conn, catalog.unknownIds(titles, selectedId));
+                recordMysqlLoad(titles, selectedId);
+                mysqlLoadLatency.recordSince(start);
+                return new PlayerTitleData(titles, selectedId, v);
+            } catch (SQLException e) {
+                plugin.getLogger().severe("칭호 로드 실패: " + e.getMessage());
+                throw e;
+            }
+        })).thenApply(data -> {
+            // Redis 캐시 저장 (그 사이 버전이 바뀌었으면 건너뜀, 결과를 기다리지 않음)
+            if (redis.isAvailable()) {
+                redis.setHash(HASH_KEY_PREFIX + uuid, VERSION_KEY_PREFIX + uuid, encodeHash(data), data.version());
+            }
+            return data;
+        });
+    }
+    
+    private void recordMysqlLoad(OwnedTitles titles, int selectedId) {
+        if (titles.isEmpty() && selectedId == 0) {
+            mysqlMisses.increment();
+        } else {
+            mysqlHits.increment();
+        }
+    }
+    
+    /** 플레이어 상태 → Redis 해시 필드 */
+    public static Map<String, String> encodeHash(PlayerTitleData data) {
+        OwnedTitles titles = data.titles();
+        Map<String, String> fields = new HashMap<>(titles.size() + 2);
+        titles.forEach((id, obtainedAt) -> fields.put(titleField(id), Long.toString(obtainedAt, 36)));
+        fields.put(FIELD_SELECTED, data.selectedId() != 0 ? Integer.toString(data.selectedId(), 36) : "");
+        fields.put(FIELD_LOADED, "1");
+        return fields;
+    }
+    
+    /** Redis 해시 필드 → 플레이어 상태 (손상된 필드는 건너뜀) */
+    public static PlayerTitleData decodeHash(Map<String, String> hash, long version) {
+        int[] ids = new int[hash.size()];
+        long[] times = new long[hash.size()];
+        int count = 0;
+        int selectedId = 0;
         
-        mysql.asyncUpdate(sql.formatted(PLAYER_TITLES_TABLE), result -> {
-            boolean success = result != null && result > 0;
+        for (Map.Entry<String, String> entry : hash.entrySet()) {
+            String field = entry.getKey();
             
-            if (success) {
-                // 선택된 칭호였다면 해제
-                getSelectedTitle(uuid).thenAccept(selected -> {
-                    if (titleName.equals(selected)) {
-                        setSelectedTitle(uuid, null);
-                    }
-                });
-                
-                if (redis.isEnabled()) {
-                    redis.deleteCache("titles:" + uuid);
-                    redis.deleteCache("selected:" + uuid);
-                    redis.publish("title-remove:" + uuid + ":" + titleName);
+            try {
+                if (field.startsWith(FIELD_TITLE_PREFIX)) {
+                    ids[count] = Integer.parseInt(field, FIELD_TITLE_PREFIX.length(), field.length(), 36);
+                    times[count] = Long.parseLong(entry.getValue(), 36);
+                    count++;
+                } else if (field.equals(FIELD_SELECTED) && !entry.getValue().isEmpty()) {
+                    selectedId = Integer.parseInt(entry.getValue(), 36);
                 }
+            } catch (NumberFormatException ignored) {
             }
+        }
+        return new PlayerTitleData(OwnedTitles.of(ids, times, count), selectedId, version);
+    }
+    
+    private static String titleField(int id) {
+        return FIELD_TITLE_PREFIX + Integer.toString(id, 36);
+    }
+    
+    /** MySQL 조회 결과를 모으는 버퍼 (OwnedTitles로 변환) */
+    private static final class TitleRows {
+        private int[] ids = new int[8];
+        private long[] times = new long[8];
+        private int size;
+        
+        void add(int id, long obtainedAt) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                times = Arrays.copyOf(times, size * 2);
+            }
+            ids[size] = id;
+            times[size] = obtainedAt;
+            size++;
+        }
+        
+        OwnedTitles toOwnedTitles() {
+            return OwnedTitles.of(ids, times, size);
+        }
+    }
+    
+    /** MySQL 보유 칭호 조회 (호출 스레드에서 블로킹) */
+    private OwnedTitles queryPlayerTitles(Connection conn, UUID uuid) throws SQLException {
+        String sql = "SELECT title_id, obtained_at FROM %s WHERE uuid = ?".formatted(PLAYER_TITLES_TABLE);
+        TitleRows rows = new TitleRows();
+        
+        try (var stmt = conn.prepareStatement(sql)) {
+            stmt.setBytes(1, UUIDUtils.toBytes(uuid));
             
-            future.complete(success);
-        }, uuid.toString(), titleName);
+            try (var rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(rs.getInt("title_id"), rs.getLong("obtained_at"));
+                }
+            }
+        }
+        return rows.toOwnedTitles();
+    }
+    
+    /** MySQL 선택 칭호 ID 조회 (호출 스레드에서 블로킹, 없으면 0) */
+    private int querySelectedTitle(Connection conn, UUID uuid) throws SQLException {
+        String sql = "SELECT title_id FROM %s WHERE uuid = ?".formatted(SELECTED_TITLE_TABLE);
         
-        return future;
+        try (var stmt = conn.prepareStatement(sql)) {
+            stmt.setBytes(1, UUIDUtils.toBytes(uuid));
+            
+            try (var rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getInt("title_id") : 0;
+            }
+        }
     }
     
     /**
-     * 선택된 칭호 조회 (비동기)
+     * 칭호 추가 (비동기, 쓰기 지연 큐를 통해 배치 반영)
      */
-    public CompletableFuture<String> getSelectedTitle(UUID uuid) {
-        CompletableFuture<String> future = new CompletableFuture<>();
+    public CompletableFuture<Boolean> addTitle(UUID uuid, String titleName) {
+        return writeQueue.addTitle(uuid, titleName, System.currentTimeMillis());
+    }
+    
+    /**
+     * 칭호 삭제 (비동기, 쓰기 지연 큐를 통해 배치 반영)
+     * 선택 칭호 해제는 호출자(TitleManager)가 처리
+     */
+    public CompletableFuture<Boolean> deleteTitle(UUID uuid, String titleName) {
+        return writeQueue.deleteTitle(uuid, titleName);
+    }
+    
+    /**
+     * 칭호 선택/해제 (비동기, 쓰기 지연 큐를 통해 배치 반영)
+     * 연속 클릭 시 마지막 선택만 MySQL에 기록됨
+     */
+    public CompletableFuture<Void> setSelectedTitle(UUID uuid, String titleName) {
+        return writeQueue.setSelectedTitle(uuid, titleName).thenAccept(success -> {
+        });
+    }
+    
+    /**
+     * MySQL 반영 완료 후 처리 (플러시당 한 번, 합쳐진 쓰기는 한 번만)
+     * Redis 해시 필드 갱신 + 버전 증가를 MULTI 하나로 보내고, 변경분을 한 번씩만 발행
+     */
+    private void onWritesFlushed(List<TitleWriteBehindQueue.AppliedWrite> writes) {
+        if (!redis.isEnabled()) return;
         
-        // 1. Redis 캐시 확인
-        if (redis.isEnabled()) {
-            String cached = redis.getCache("selected:" + uuid);
-            if (cached != null) {
-                String result = cached.equals("null") ? null : cached;
-                future.complete(result);
-                return future;
-            }
+        // 장애 차단 중 - MySQL에만 반영됨, 복구 시 해시 재구성
+        if (!redis.isAvailable()) {
+            writes.forEach(write -> staleInRedis.add(write.uuid()));
+            return;
         }
         
-        // 2. MySQL에서 로드 (Core 1.1.7 호환)
-        CompletableFuture.runAsync(() -> {
-            String sql = "SELECT title_name FROM %s WHERE uuid = ?".formatted(SELECTED_TITLE_TABLE);
+        List<TitleRedisManager.HashUpdate> updates = new ArrayList<>(writes.size());
+        for (TitleWriteBehindQueue.AppliedWrite write : writes) {
+            String key = HASH_KEY_PREFIX + write.uuid();
+            String versionKey = VERSION_KEY_PREFIX + write.uuid();
+            // 플러시 중에 ID를 정했으므로 보통 항상 있음 - 없으면 전체 로드 표시를 지워 다음 조회에서 재구성
+            Integer id = write.titleName() != null ? catalog.idOf(write.titleName()) : null;
             
-            try (var conn = mysql.getConnection();
-                 var stmt = conn.prepareStatement(sql)) {
-                
-                stmt.setString(1, uuid.toString());
+            if (write.titleName() != null && id == null) {
+                updates.add(new TitleRedisManager.HashUpdate(key, versionKey, Map.of(), List.of(FIELD_LOADED)));
+                continue;
+            }
+            
+            updates.add(switch (write.type()) {
+                case ADD -> new TitleRedisManager.HashUpdate(key, versionKey,
+                    Map.of(titleField(id), Long.toString(write.timestamp(), 36)), List.of());
+                case REMOVE -> new TitleRedisManager.HashUpdate(key, versionKey,
+                    Map.of(), List.of(titleField(id)));
+                case SELECT -> new TitleRedisManager.HashUpdate(key, versionKey,
+                    Map.of(FIELD_SELECTED, id != null ? Integer.toString(id, 36) : ""), List.of());
+            });
+        }
+        
+        // 쓰기 스레드를 막지 않음 - I/O 스레드가 순서대로 전송하므로 플러시 간 순서 유지
+        redis.updateHashes(updates).thenAccept(versions -> {
+            ObjLongConsumer<UUID> listener = versionListener;
+            for (int i = 0; i < writes.size(); i++) {
+                // Redis 갱신에 실패해 버전이 없으면 발행하지 않음 (복구 시 해시 재구성)
+                if (versions[i] < 0) {
+                    staleInRedis.add(writes.get(i).uuid());
+                    continue;
+                }
                 
-                try (var rs = stmt.executeQuery()) {
-                    String title = null;
-                    if (rs.next()) {
-                        title = rs.getString("title_name");
-                    }
-                    
-                    // Redis 캐시 저장
-                    if (redis.isEnabled()) {
-                        redis.setCache("selected:" + uuid, title != null ? title : "null");
-                    }
-                    
-                    future.complete(title);
+                TitleWriteBehindQueue.AppliedWrite write = writes.get(i);
+                // 자신이 보낸 메시지가 돌아오기 전에 캐시 버전을 맞춤 (돌아온 메시지는 이미 반영된 버전으로 무시)
+                if (listener != null) {
+                    listener.accept(write.uuid(), versions[i]);
                 }
                 
-            } catch (SQLException e) {
-                plugin.getLogger().severe("❌ 선택된 칭호 조회 실패: " + e.getMessage());
-                future.complete(null);
-            } catch (Exception e) {
-                plugin.getLogger().severe("❌ 예상치 못한 오류: " + e.getMessage());
-                future.complete(null);
+                TitleSyncEvent.Action action = switch (write.type()) {
+                    case ADD -> TitleSyncEvent.Action.ADD;
+                    case REMOVE -> TitleSyncEvent.Action.REMOVE;
+                    case SELECT -> TitleSyncEvent.Action.SELECT;
+                };
+                redis.publish(new TitleSyncEvent(action, write.uuid(), versions[i], write.timestamp(), write.titleName()).encode());
             }
         });
-        
-        return future;
     }
     
     /**
-     * 칭호 선택/해제 (비동기)
+     * Redis 복구 후 장애 중 바뀐 플레이어의 해시를 재구성 대상으로 표시 (전체 로드 표시 삭제 + 버전 증가)
+     * 버전이 바뀌므로 캐시해 둔 서버는 재검증에서 MySQL로부터 다시 로드
      */
-    public CompletableFuture<Void> setSelectedTitle(UUID uuid, String titleName) {
-        CompletableFuture<Void> future = new CompletableFuture<>();
+    private CompletableFuture<Void> repairStaleHashes() {
+        if (staleInRedis.isEmpty()) return CompletableFuture.completedFuture(null);
         
-        String sql = titleName != null ?
-            "INSERT INTO %s (uuid, title_name, updated_at) VALUES (?, ?, ?) " +
-            "ON DUPLICATE KEY UPDATE title_name = VALUES(title_name), updated_at = VALUES(updated_at)" :
-            "DELETE FROM %s WHERE uuid = ?";
+        List<UUID> uuids = new ArrayList<>(staleInRedis);
+        staleInRedis.removeAll(uuids);
         
-        Object[] params = titleName != null ?
-            new Object[]{uuid.toString(), titleName, System.currentTimeMillis()} :
-            new Object[]{uuid.toString()};
+        List<TitleRedisManager.HashUpdate> updates = new ArrayList<>(uuids.size());
+        for (UUID uuid : uuids) {
+            updates.add(new TitleRedisManager.HashUpdate(HASH_KEY_PREFIX + uuid, VERSION_KEY_PREFIX + uuid,
+                Map.of(), List.of(FIELD_LOADED)));
+        }
         
-        mysql.asyncUpdate(sql.formatted(SELECTED_TITLE_TABLE), result -> {
-            if (redis.isEnabled()) {
-                redis.setCache("selected:" + uuid, titleName != null ? titleName : "null");
-                redis.publish("title-select:" + uuid + ":" + (titleName != null ? titleName : "none"));
+        return redis.updateHashes(updates).thenAccept(versions -> {
+            int repaired = 0;
+            for (int i = 0; i < uuids.size(); i++) {
+                if (versions[i] < 0) {
+                    staleInRedis.add(uuids.get(i));
+                } else {
+                    repaired++;
+                }
             }
-            
-            future.complete(null);
-        }, params);
-        
-        return future;
+            plugin.getLogger().info("🔄 Redis 복구: 장애 중 변경된 플레이어 %d명 캐시 재구성 표시".formatted(repaired));
+        });
+    }
+    
+    /** Redis에 반영되지 못한 플레이어 수 (복구 대기) */
+    public int getStaleInRedis() {
+        return staleInRedis.size();
     }
     
     /**
      * 칭호 보유 여부 확인 (비동기)
      */
     public CompletableFuture<Boolean> hasTitle(UUID uuid, String titleName) {
-        return loadPlayerTitles(uuid).thenApply(titles -> titles.containsKey(titleName));
+        return loadPlayerTitles(uuid).thenApply(titles -> {
+            Integer id = catalog.idOf(titleName);
+            return id != null && titles.contains(id);
+        });
+    }
+    
+    // ========================================
+    // 지표
+    // ========================================
+    
+    public long getRedisHits() {
+        return redisHits.sum();
+    }
+    
+    public long getRedisMisses() {
+        return redisMisses.sum();
+    }
+    
+    /** MySQL에서 읽은 플레이어 중 보유/선택 칭호가 있던 수 */
+    public long getMysqlHits() {
+        return mysqlHits.sum();
+    }
+    
+    /** MySQL에서 읽은 플레이어 중 데이터가 없던 수 (신규 플레이어) */
+    public long getMysqlMisses() {
+        return mysqlMisses.sum();
     }
 }
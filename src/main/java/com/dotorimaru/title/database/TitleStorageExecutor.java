@@ -0,0 +1,235 @@
+package com.dotorimaru.title.database;
+
+import com.dotorimaru.title.metrics.LatencyHistogram;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 칭호 저장소 I/O 전용 실행기 (JDBC 작업은 모두 여기서 실행)
+ * 공용 ForkJoinPool을 쓰지 않으므로 접속 폭주 시에도 다른 플러그인에 영향을 주지 않음
+ *
+ * - PLATFORM : 고정 크기 스레드 풀 (Title-Storage-{n})
+ * - VIRTUAL  : 작업마다 가상 스레드 (Title-Storage-V-{n}), 대기 비용이 거의 없음
+ * - 두 방식 모두 동시 실행 수를 Hikari 풀 크기로 제한 (연결 대기로 스레드가 쌓이지 않도록)
+ */
+public class TitleStorageExecutor implements Executor {
+
+    public enum Mode {
+        PLATFORM, VIRTUAL;
+
+        public static Mode fromConfig(String value) {
+            return "virtual".equalsIgnoreCase(value) ? VIRTUAL : PLATFORM;
+        }
+    }
+
+    private final JavaPlugin plugin;
+    private final Mode mode;
+    private final int maxConcurrency;
+    private final Semaphore permits;
+    private final ExecutorService delegate;
+
+    // 지표
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger maxQueued = new AtomicInteger();
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final LatencyHistogram waitLatency = new LatencyHistogram();
+
+    public TitleStorageExecutor(JavaPlugin plugin) {
+        this.plugin = plugin;
+        this.mode = Mode.fromConfig(plugin.getConfig().getString("database.mysql.executor.mode", "platform"));
+        this.maxConcurrency = Math.max(1, plugin.getConfig().getInt("database.mysql.pool.maximum-pool-size", 10));
+        this.permits = new Semaphore(maxConcurrency, true);
+
+        if (mode == Mode.VIRTUAL) {
+            this.delegate = Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("Title-Storage-V-", 0).factory());
+        } else {
+            int threads = plugin.getConfig().getInt("database.mysql.executor.threads", 0);
+            this.delegate = Executors.newFixedThreadPool(threads > 0 ? threads : maxConcurrency, platformThreads());
+        }
+
+        plugin.getLogger().info("✅ Title 저장소 실행기: %s (동시 실행 %d)".formatted(mode.name().toLowerCase(), maxConcurrency));
+    }
+
+    private static ThreadFactory platformThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, "Title-Storage-" + counter.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    /**
+     * 작업 예약 (종료 후에는 RejectedExecutionException)
+     */
+    @Override
+    public void execute(Runnable task) {
+        long enqueuedAt = System.nanoTime();
+        submitted.incrementAndGet();
+        maxQueued.accumulateAndGet(queued.incrementAndGet(), Math::max);
+
+        try {
+            delegate.execute(() -> run(task, enqueuedAt));
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            rejected.incrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * 결과를 반환하는 작업 예약 (예외는 future로 전달)
+     */
+    public <T> CompletableFuture<T> supply(Callable<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            execute(() -> {
+                try {
+                    future.complete(task.call());
+                } catch (Exception e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * 호출 스레드에서 바로 실행하되 동시 실행 제한은 함께 적용
+     * (쓰기 지연 큐처럼 자체 스레드에서 순서를 지켜야 하는 작업용)
+     */
+    public void runBlocking(Runnable task) {
+        long enqueuedAt = System.nanoTime();
+        submitted.incrementAndGet();
+        queued.incrementAndGet();
+
+        permits.acquireUninterruptibly();
+        runWithPermit(task, enqueuedAt);
+    }
+
+    private void run(Runnable task, long enqueuedAt) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            // 종료 중 (shutdownNow)
+            queued.decrementAndGet();
+            failed.incrementAndGet();
+            Thread.currentThread().interrupt();
+            return;
+        }
+        runWithPermit(task, enqueuedAt);
+    }
+
+    private void runWithPermit(Runnable task, long enqueuedAt) {
+        queued.decrementAndGet();
+        long wait = System.nanoTime() - enqueuedAt;
+        totalWaitNanos.addAndGet(wait);
+        maxWaitNanos.accumulateAndGet(wait, Math::max);
+        waitLatency.record(wait);
+        active.incrementAndGet();
+
+        try {
+            task.run();
+            completed.incrementAndGet();
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            plugin.getLogger().warning("칭호 저장소 작업 오류: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            active.decrementAndGet();
+            permits.release();
+        }
+    }
+
+    /**
+     * 종료 - 실행 중/대기 중인 작업을 잠시 기다린 뒤 정리 (MySQL 종료 전에 호출)
+     */
+    public void shutdown() {
+        delegate.shutdown();
+        try {
+            if (!delegate.awaitTermination(5, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("⚠️ 칭호 저장소 작업 %d건을 기다리지 못하고 종료합니다.".formatted(queued.get() + active.get()));
+                delegate.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            delegate.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ========================================
+    // 지표
+    // ========================================
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /** 연결(허가)을 기다리는 작업 수 */
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    public int getMaxQueueDepth() {
+        return maxQueued.get();
+    }
+
+    public int getActive() {
+        return active.get();
+    }
+
+    public long getSubmitted() {
+        return submitted.get();
+    }
+
+    public long getCompleted() {
+        return completed.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    /** 예약부터 실행 시작까지 평균 대기 시간 */
+    public double getAverageWaitMillis() {
+        long started = completed.get() + failed.get() + active.get();
+        return started == 0 ? 0.0 : totalWaitNanos.get() / 1_000_000.0 / started;
+    }
+
+    public double getMaxWaitMillis() {
+        return maxWaitNanos.get() / 1_000_000.0;
+    }
+
+    /** 예약부터 실행 시작까지 대기 시간 분포 */
+    public LatencyHistogram getWaitLatency() {
+        return waitLatency;
+    }
+}
@@ -0,0 +1,176 @@
+package com.dotorimaru.title.database;
+
+import com.dotorimaru.title.metrics.TickBudgetWatchdog;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 동기화 메시지 분배기 (TitleRedisManager 전용)
+ * 핸들러를 메인 스레드 밖에서 실행하고, 같은 플레이어의 이벤트는 받은 순서대로 처리
+ *
+ * - 이벤트의 두 번째 구간({action}:{uuid}:...)을 키로 스트라이프(단일 스레드 큐)를 고름
+ * - Bukkit API가 필요한 핸들러는 addMainThreadHandler로 명시적으로 등록
+ */
+public class TitleSyncDispatcher {
+
+    private final JavaPlugin plugin;
+    private final ExecutorService[] stripes;
+
+    private final List<Consumer<String>> asyncHandlers = new CopyOnWriteArrayList<>();
+    private final List<Consumer<String>> mainThreadHandlers = new CopyOnWriteArrayList<>();
+
+    // 메인 스레드 핸들러 시간 측정 (없으면 측정 안 함)
+    private volatile TickBudgetWatchdog watchdog;
+
+    // 지표
+    private final AtomicLong dispatchedEvents = new AtomicLong();
+    private final AtomicLong mainThreadTasks = new AtomicLong();
+    private final AtomicLong failedHandlers = new AtomicLong();
+
+    public TitleSyncDispatcher(JavaPlugin plugin) {
+        this.plugin = plugin;
+
+        int threads = Math.max(1, plugin.getConfig().getInt("database.redis.sync.dispatch-threads", 2));
+        this.stripes = new ExecutorService[threads];
+        for (int i = 0; i < threads; i++) {
+            String name = "Title-Redis-Dispatch-" + i;
+            stripes[i] = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, name);
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    /**
+     * 메인 스레드 밖에서 실행되는 핸들러 추가 (스레드 안전한 캐시만 다룰 것)
+     */
+    public void addHandler(Consumer<String> handler) {
+        asyncHandlers.add(handler);
+    }
+
+    /**
+     * 메인 스레드에서 실행되는 핸들러 추가 (Bukkit API 사용 시)
+     */
+    public void addMainThreadHandler(Consumer<String> handler) {
+        mainThreadHandlers.add(handler);
+    }
+
+    public void setWatchdog(TickBudgetWatchdog watchdog) {
+        this.watchdog = watchdog;
+    }
+
+    public int getHandlerCount() {
+        return asyncHandlers.size() + mainThreadHandlers.size();
+    }
+
+    /**
+     * 받은 메시지(분리된 이벤트 목록) 분배
+     */
+    public void dispatch(List<String> events) {
+        for (String event : events) {
+            dispatchedEvents.incrementAndGet();
+            if (asyncHandlers.isEmpty()) continue;
+
+            try {
+                stripes[stripeOf(event)].execute(() -> run(asyncHandlers, event));
+            } catch (Exception e) {
+                // 종료 중 - 버림 (다음 접속 시 다시 로드됨)
+                plugin.getLogger().fine("Title Redis 분배 거부됨: " + e.getMessage());
+            }
+        }
+
+        // 메인 스레드 핸들러는 메시지 하나당 작업 하나로 묶어서 실행
+        if (!mainThreadHandlers.isEmpty() && plugin.isEnabled()) {
+            mainThreadTasks.incrementAndGet();
+            plugin.getServer().getScheduler().runTask(plugin, () -> {
+                TickBudgetWatchdog current = watchdog;
+                long start = current != null ? current.begin() : 0L;
+                try {
+                    for (String event : events) {
+                        run(mainThreadHandlers, event);
+                    }
+                } finally {
+                    if (current != null) {
+                        current.end(TickBudgetWatchdog.Operation.SYNC_CALLBACK, start);
+                    }
+                }
+            });
+        }
+    }
+
+    private void run(List<Consumer<String>> handlers, String event) {
+        for (Consumer<String> handler : handlers) {
+            try {
+                handler.accept(event);
+            } catch (Exception e) {
+                failedHandlers.incrementAndGet();
+                plugin.getLogger().warning("Title Redis 핸들러 실행 중 오류: " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * 이벤트 키(플레이어 UUID)로 스트라이프 선택 - 같은 키는 항상 같은 큐
+     */
+    private int stripeOf(String event) {
+        int start = event.indexOf(':');
+        int end = start < 0 ? -1 : event.indexOf(':', start + 1);
+
+        int hash;
+        if (start < 0) {
+            hash = event.hashCode();
+        } else {
+            hash = 0;
+            int limit = end < 0 ? event.length() : end;
+            for (int i = start + 1; i < limit; i++) {
+                hash = 31 * hash + event.charAt(i);
+            }
+        }
+        return Math.floorMod(hash ^ (hash >>> 16), stripes.length);
+    }
+
+    /**
+     * 종료 - 대기 중인 이벤트를 잠시 기다린 뒤 정리
+     */
+    public void shutdown() {
+        for (ExecutorService stripe : stripes) {
+            stripe.shutdown();
+        }
+        try {
+            for (ExecutorService stripe : stripes) {
+                if (!stripe.awaitTermination(1, TimeUnit.SECONDS)) {
+                    stripe.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ========================================
+    // 지표
+    // ========================================
+
+    /** 분배된 이벤트 수 */
+    public long getDispatchedEvents() {
+        return dispatchedEvents.get();
+    }
+
+    /** 메인 스레드에 예약된 작업 수 */
+    public long getMainThreadTasks() {
+        return mainThreadTasks.get();
+    }
+
+    public long getFailedHandlers() {
+        return failedHandlers.get();
+    }
+}
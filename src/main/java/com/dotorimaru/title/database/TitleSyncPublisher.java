@@ -0,0 +1,176 @@
+package com.dotorimaru.title.database;
+
+import org.bukkit.plugin.java.JavaPlugin;
+import redis.clients.jedis.Jedis;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 동기화 메시지 발행기 (TitleRedisManager 전용)
+ * 몇 밀리초 동안 이벤트를 모아 중복을 제거하고, 한 번의 PUBLISH(또는 XADD)로 묶어서 전송
+ *
+ * 묶음 형식: "batch\n{event}\n{event}..." (이벤트가 하나면 그대로 전송)
+ */
+public class TitleSyncPublisher {
+
+    public static final String BATCH_PREFIX = "batch\n";
+    public static final char BATCH_SEPARATOR = '\n';
+
+    private final JavaPlugin plugin;
+    private final Supplier<Jedis> connection;
+    private final Sender sender;
+    private final TitleRedisCircuitBreaker circuitBreaker;
+    private final long delayMillis;
+    private final ScheduledExecutorService scheduler;
+
+    // 대기 중인 이벤트 (lock으로 보호, 삽입 순서 유지 + 중복 제거)
+    private final Object lock = new Object();
+    private Set<String> buffer = new LinkedHashSet<>();
+
+    // 지표
+    private final AtomicLong publishedEvents = new AtomicLong();
+    private final AtomicLong deduplicatedEvents = new AtomicLong();
+    private final AtomicLong wireMessages = new AtomicLong();
+    private final AtomicLong failedMessages = new AtomicLong();
+
+    /**
+     * 실제 전송 방식 (PUBLISH 또는 XADD)
+     */
+    @FunctionalInterface
+    public interface Sender {
+        void send(Jedis jedis, String message);
+    }
+
+    public TitleSyncPublisher(JavaPlugin plugin, Supplier<Jedis> connection, Sender sender,
+                              TitleRedisCircuitBreaker circuitBreaker) {
+        this.plugin = plugin;
+        this.circuitBreaker = circuitBreaker;
+        this.connection = connection;
+        this.sender = sender;
+        this.delayMillis = Math.max(0L, plugin.getConfig().getLong("database.redis.sync.publish-delay-ms", 5L));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "Title-Redis-Publisher");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 이벤트 발행 예약 (같은 묶음 안의 동일 이벤트는 한 번만 전송)
+     */
+    public void publish(String event) {
+        publishedEvents.incrementAndGet();
+
+        boolean first;
+        synchronized (lock) {
+            if (!buffer.add(event)) {
+                deduplicatedEvents.incrementAndGet();
+                return;
+            }
+            first = buffer.size() == 1;
+        }
+
+        // 묶음의 첫 이벤트가 들어올 때만 플러시 예약
+        if (first) {
+            try {
+                scheduler.schedule(this::flush, delayMillis, TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                flush(); // 종료 중 - 바로 전송
+            }
+        }
+    }
+
+    /**
+     * 모인 이벤트를 메시지 하나로 전송
+     */
+    public void flush() {
+        List<String> events;
+        synchronized (lock) {
+            if (buffer.isEmpty()) return;
+            events = new ArrayList<>(buffer);
+            buffer = new LinkedHashSet<>();
+        }
+
+        String message = events.size() == 1
+                ? events.get(0)
+                : BATCH_PREFIX + String.join(String.valueOf(BATCH_SEPARATOR), events);
+
+        // 차단 중 - 버림 (복구 시 버전 재검증으로 보완)
+        if (!circuitBreaker.allowRequest()) {
+            failedMessages.incrementAndGet();
+            return;
+        }
+
+        try (Jedis jedis = connection.get()) {
+            if (jedis == null) return;
+            sender.send(jedis, message);
+            circuitBreaker.onSuccess();
+            wireMessages.incrementAndGet();
+            plugin.getLogger().fine("📢 Title Redis Pub: %d개 이벤트".formatted(events.size()));
+        } catch (Exception e) {
+            failedMessages.incrementAndGet();
+            circuitBreaker.onFailure(e);
+            if (circuitBreaker.isClosed()) {
+                plugin.getLogger().warning("Redis Pub 실패 (%d개 이벤트): %s".formatted(events.size(), e.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * 종료 - 남은 이벤트를 호출 스레드에서 전송
+     */
+    public void shutdown() {
+        scheduler.shutdownNow();
+        flush();
+    }
+
+    /**
+     * 받은 메시지를 이벤트 목록으로 분리
+     */
+    public static List<String> split(String message) {
+        if (!message.startsWith(BATCH_PREFIX)) {
+            return List.of(message);
+        }
+
+        List<String> events = new ArrayList<>();
+        int start = BATCH_PREFIX.length();
+        while (start <= message.length()) {
+            int end = message.indexOf(BATCH_SEPARATOR, start);
+            if (end < 0) end = message.length();
+            if (end > start) events.add(message.substring(start, end));
+            start = end + 1;
+        }
+        return events;
+    }
+
+    // ========================================
+    // 지표
+    // ========================================
+
+    /** 발행 요청된 이벤트 수 */
+    public long getPublishedEvents() {
+        return publishedEvents.get();
+    }
+
+    /** 중복으로 버려진 이벤트 수 */
+    public long getDeduplicatedEvents() {
+        return deduplicatedEvents.get();
+    }
+
+    /** 실제로 전송된 PUBLISH 수 */
+    public long getWireMessages() {
+        return wireMessages.get();
+    }
+
+    public long getFailedMessages() {
+        return failedMessages.get();
+    }
+}
@@ -0,0 +1,298 @@
+package com.dotorimaru.title.database;
+
+import org.bukkit.plugin.java.JavaPlugin;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPubSub;
+import redis.clients.jedis.StreamEntryID;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.params.XReadGroupParams;
+import redis.clients.jedis.resps.StreamEntry;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 동기화 메시지 수신기 (TitleRedisManager 전용)
+ * 전용 스레드에서 구독을 유지하고, 연결이 끊기면 지수 백오프로 다시 연결
+ *
+ * 전송 방식:
+ * - PUBSUB : 지연이 가장 낮음, 끊긴 동안의 메시지는 유실 (재연결 시 버전 재검증으로 보완)
+ * - STREAM : XADD/XREADGROUP, 서버별 컨슈머 그룹에 확인(XACK)한 위치부터 재처리
+ */
+public class TitleSyncSubscriber {
+
+    public static final String STREAM_FIELD = "m";
+
+    public enum Transport {
+        PUBSUB, STREAM;
+
+        public static Transport fromConfig(String value) {
+            return "stream".equalsIgnoreCase(value) ? STREAM : PUBSUB;
+        }
+    }
+
+    private final JavaPlugin plugin;
+    private final Supplier<Jedis> connection;
+    private final Transport transport;
+    private final String channel;
+    private final String streamKey;
+    private final String group;
+    private final Consumer<List<String>> sink;
+    private final Runnable onResync;
+
+    private final int blockMillis;
+    private final int readCount;
+    private final long initialBackoff;
+    private final long maxBackoff;
+
+    private volatile boolean running = false;
+    private volatile JedisPubSub activePubSub;
+    private Thread thread;
+
+    // 수신 스레드 전용
+    private long backoff;
+    private boolean connectedBefore = false;
+
+    // 지표
+    private final AtomicLong receivedMessages = new AtomicLong();
+    private final AtomicLong replayedMessages = new AtomicLong();
+    private final AtomicLong reconnects = new AtomicLong();
+
+    public TitleSyncSubscriber(JavaPlugin plugin, Supplier<Jedis> connection, Transport transport,
+                               String channel, String streamKey, String group,
+                               Consumer<List<String>> sink, Runnable onResync) {
+        this.plugin = plugin;
+        this.connection = connection;
+        this.transport = transport;
+        this.channel = channel;
+        this.streamKey = streamKey;
+        this.group = group;
+        this.sink = sink;
+        this.onResync = onResync;
+
+        // 블로킹 읽기는 소켓 타임아웃(2초)보다 짧아야 함
+        this.blockMillis = Math.max(100, Math.min(1500,
+                plugin.getConfig().getInt("database.redis.sync.stream.block-ms", 1000)));
+        this.readCount = Math.max(1, plugin.getConfig().getInt("database.redis.sync.stream.read-count", 100));
+        this.initialBackoff = Math.max(50L, plugin.getConfig().getLong("database.redis.sync.reconnect.initial-ms", 500L));
+        this.maxBackoff = Math.max(initialBackoff, plugin.getConfig().getLong("database.redis.sync.reconnect.max-ms", 30000L));
+        this.backoff = initialBackoff;
+    }
+
+    /**
+     * 수신 스레드 시작
+     */
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+
+        thread = new Thread(this::runLoop, "Title-Redis-Subscriber");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 수신 중지 (Redis 풀 종료 전에 호출)
+     */
+    public synchronized void shutdown() {
+        if (!running) return;
+        running = false;
+
+        JedisPubSub pubSub = activePubSub;
+        if (pubSub != null && pubSub.isSubscribed()) {
+            try {
+                pubSub.unsubscribe();
+            } catch (Exception ignored) {
+                // 이미 끊김
+            }
+        }
+
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(blockMillis + 500L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void runLoop() {
+        plugin.getLogger().info("🔧 Title Redis 동기화 수신 시작: %s (%s)".formatted(
+                transport == Transport.STREAM ? streamKey : channel, transport.name().toLowerCase()));
+
+        while (running) {
+            try (Jedis jedis = connection.get()) {
+                if (jedis == null) {
+                    throw new IllegalStateException("Redis 연결을 가져올 수 없습니다.");
+                }
+
+                if (transport == Transport.STREAM) {
+                    readStream(jedis);
+                } else {
+                    subscribe(jedis);
+                }
+            } catch (Exception e) {
+                if (!running) break;
+                plugin.getLogger().warning("⚠️ Title Redis 동기화 연결 끊김: %s (%dms 후 재연결)".formatted(e.getMessage(), backoff));
+            }
+
+            if (!running) break;
+            sleepBackoff();
+        }
+
+        plugin.getLogger().info("🔕 Title Redis 동기화 수신 종료");
+    }
+
+    private void sleepBackoff() {
+        try {
+            Thread.sleep(backoff);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+            return;
+        }
+        backoff = Math.min(backoff * 2, maxBackoff);
+    }
+
+    /**
+     * 구독이 (다시) 준비됨 - 재연결이면 놓친 변경분 재검증
+     */
+    private void onReady() {
+        backoff = initialBackoff;
+
+        if (connectedBefore) {
+            reconnects.incrementAndGet();
+            plugin.getLogger().info("✅ Title Redis 동기화 재연결 완료");
+            try {
+                onResync.run();
+            } catch (Exception e) {
+                plugin.getLogger().warning("재연결 후 재검증 실패: " + e.getMessage());
+            }
+        }
+        connectedBefore = true;
+    }
+
+    // ========================================
+    // Pub/Sub
+    // ========================================
+
+    private void subscribe(Jedis jedis) {
+        JedisPubSub pubSub = new JedisPubSub() {
+            @Override
+            public void onMessage(String channel, String message) {
+                receivedMessages.incrementAndGet();
+                sink.accept(TitleSyncPublisher.split(message));
+            }
+
+            @Override
+            public void onSubscribe(String channel, int subscribedChannels) {
+                plugin.getLogger().info("✅ Title Redis 구독 완료: %s".formatted(channel));
+                onReady();
+            }
+
+            @Override
+            public void onUnsubscribe(String channel, int subscribedChannels) {
+                plugin.getLogger().info("🔕 Title Redis 구독 해제: %s".formatted(channel));
+            }
+        };
+
+        activePubSub = pubSub;
+        try {
+            // 구독이 끝날 때까지 블로킹
+            jedis.subscribe(pubSub, channel);
+        } finally {
+            activePubSub = null;
+        }
+    }
+
+    // ========================================
+    // Streams
+    // ========================================
+
+    private void readStream(Jedis jedis) {
+        ensureGroup(jedis);
+
+        // 1) 받았지만 확인하지 못한 항목부터 재처리, 2) 끊긴 동안 쌓인 항목 + 새 항목
+        StreamEntryID pendingCursor = StreamEntryID.MINIMUM_ID;
+        boolean replayingPending = true;
+
+        while (running) {
+            XReadGroupParams params = XReadGroupParams.xReadGroupParams().count(readCount);
+            if (!replayingPending) params.block(blockMillis);
+
+            List<Map.Entry<String, List<StreamEntry>>> result = jedis.xreadGroup(group, group, params,
+                    Map.of(streamKey, replayingPending ? pendingCursor : StreamEntryID.UNRECEIVED_ENTRY));
+            List<StreamEntry> entries = result == null || result.isEmpty() ? List.of() : result.get(0).getValue();
+
+            if (entries.isEmpty()) {
+                if (replayingPending) {
+                    replayingPending = false;
+                    onReady();
+                }
+                continue;
+            }
+
+            StreamEntryID[] ids = new StreamEntryID[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                StreamEntry entry = entries.get(i);
+                ids[i] = entry.getID();
+
+                // 잘려 나간 항목은 필드가 비어 있음 - 확인만 함
+                Map<String, String> fields = entry.getFields();
+                String message = fields != null ? fields.get(STREAM_FIELD) : null;
+                if (message == null) continue;
+
+                receivedMessages.incrementAndGet();
+                if (replayingPending) replayedMessages.incrementAndGet();
+                sink.accept(TitleSyncPublisher.split(message));
+            }
+
+            jedis.xack(streamKey, group, ids);
+            if (replayingPending) pendingCursor = ids[ids.length - 1];
+        }
+    }
+
+    /**
+     * 서버별 컨슈머 그룹 준비
+     * 프로세스 첫 연결이면 그룹 위치를 끝으로 옮김 (로컬 캐시가 비어 있어 이전 항목은 필요 없음)
+     */
+    private void ensureGroup(Jedis jedis) {
+        try {
+            jedis.xgroupCreate(streamKey, group, StreamEntryID.LAST_ENTRY, true);
+            plugin.getLogger().info("✅ Title Redis 스트림 그룹 생성: %s".formatted(group));
+            return;
+        } catch (JedisDataException e) {
+            if (e.getMessage() == null || !e.getMessage().startsWith("BUSYGROUP")) throw e;
+        }
+
+        if (!connectedBefore) {
+            jedis.xgroupSetID(streamKey, group, StreamEntryID.LAST_ENTRY);
+        }
+    }
+
+    // ========================================
+    // 지표
+    // ========================================
+
+    public Transport getTransport() {
+        return transport;
+    }
+
+    /** 받은 메시지 수 (묶음은 1개) */
+    public long getReceivedMessages() {
+        return receivedMessages.get();
+    }
+
+    /** 재연결 후 다시 처리한 스트림 메시지 수 */
+    public long getReplayedMessages() {
+        return replayedMessages.get();
+    }
+
+    public long getReconnects() {
+        return reconnects.get();
+    }
+}
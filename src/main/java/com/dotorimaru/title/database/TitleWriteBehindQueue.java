@@ -0,0 +1,827 @@
+package com.dotorimaru.title.database;
+
+import com.dotorimaru.title.metrics.LatencyHistogram;
+import com.dotorimaru.title.utils.UUIDUtils;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLDataException;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 칭호 쓰기 지연 큐 (write-behind)
+ * 플레이어별로 대기 중인 쓰기를 합치고 JDBC 배치로 한 번에 반영
+ *
+ * 합치기 규칙:
+ * - 같은 칭호의 추가/삭제는 마지막 요청만 남음 (추가 → 삭제 = 삭제, 삭제 → 추가 = 추가)
+ * - 선택 칭호는 마지막 선택만 남음
+ * - 밀려난 요청의 future는 최종 요청과 함께 완료
+ *
+ * 저널 (TitleWriteJournal):
+ * - 모든 요청은 큐에 넣을 때 저널에 기록되고, 플러시는 해당 기록이 디스크에 남은 뒤에 시작
+ * - 일시적인 오류(연결 끊김 등)로 실패하면 요청을 버리지 않고 큐에 되돌려 재시도 (간격은 실패할 때마다 2배),
+ *   이미 저널에 남았으므로 호출자에게는 true로 완료
+ * - 다시 해도 실패하는 오류는 묶음을 나눠 원인 요청만 포기(false, 로그)하고 나머지는 반영 - 큐가 막히지 않음
+ * - 반영이 확인된 위치를 저널에 남기고, 시작 시 확인되지 않은 요청을 순서대로 다시 큐에 넣음
+ */
+public class TitleWriteBehindQueue {
+
+    private final JavaPlugin plugin;
+    private final TitleMySQLManager mysql;
+    private final TitleCatalog catalog;
+    private final TitleSchemaMigrator migrator;
+
+    private final String upsertTitleSql;
+    private final String deleteTitleSql;
+    private final String upsertSelectedSql;
+    private final String deleteSelectedSql;
+
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final ScheduledExecutorService scheduler;
+
+    private final TitleWriteJournal journal;
+    private final long retryMaxMillis;
+
+    // 연속 실패 후 재시도 대기 (쓰기 스레드에서 갱신, 종료 시 다른 스레드에서 읽음)
+    private volatile int failureStreak = 0;
+    private volatile long retryAtMillis = 0L;
+
+    // 반영을 포기한 요청 (최근 것만 보관, 전부 로그에 남음)
+    private static final int MAX_DEAD_LETTERS = 100;
+    private final Deque<DeadLetter> deadLetters = new ArrayDeque<>();
+
+    // 대기 중인 쓰기 (lock으로 보호)
+    private final Object lock = new Object();
+    private Map<UUID, PlayerWrites> pending = new HashMap<>();
+    private int pendingOps = 0;
+
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+
+    // 한 번에 하나의 플러시만 (종료 시 최종 플러시가 진행 중인 묶음까지 확인 처리하지 않도록)
+    private final Object flushLock = new Object();
+
+    // 저널 복구 후 start()에서 켜짐 - 그 전에는 플러시하지 않음 (복구 중 확인 위치가 앞서가지 않도록)
+    private volatile boolean started = false;
+
+    // 반영 완료 리스너 (합쳐진 최종 쓰기마다 한 번, future 완료 전에 호출)
+    private volatile FlushListener listener;
+
+    // 지표
+    private final AtomicLong enqueuedOps = new AtomicLong();
+    private final AtomicLong flushedOps = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+    private final AtomicLong lastFlushNanos = new AtomicLong();
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+    private final AtomicLong totalFlushNanos = new AtomicLong();
+    private final LatencyHistogram flushLatency = new LatencyHistogram();
+
+    public TitleWriteBehindQueue(JavaPlugin plugin, TitleMySQLManager mysql, TitleCatalog catalog,
+                                 TitleSchemaMigrator migrator, String playerTitlesTable, String selectedTitleTable) {
+        this.plugin = plugin;
+        this.mysql = mysql;
+        this.catalog = catalog;
+        this.migrator = migrator;
+
+        this.upsertTitleSql = ("INSERT INTO %s (uuid, title_id, obtained_at) VALUES (?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE obtained_at = VALUES(obtained_at)").formatted(playerTitlesTable);
+        this.deleteTitleSql = "DELETE FROM %s WHERE uuid = ? AND title_id = ?".formatted(playerTitlesTable);
+        this.upsertSelectedSql = ("INSERT INTO %s (uuid, title_id, updated_at) VALUES (?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE title_id = VALUES(title_id), updated_at = VALUES(updated_at)")
+                .formatted(selectedTitleTable);
+        this.deleteSelectedSql = "DELETE FROM %s WHERE uuid = ?".formatted(selectedTitleTable);
+
+        this.flushIntervalMillis = Math.max(1L,
+                plugin.getConfig().getLong("database.mysql.write-behind.flush-interval-ms", 50L));
+        this.batchSize = Math.max(1,
+                plugin.getConfig().getInt("database.mysql.write-behind.batch-size", 100));
+        this.retryMaxMillis = Math.max(1000L,
+                plugin.getConfig().getLong("database.mysql.write-behind.retry-max-ms", 30000L));
+        this.journal = new TitleWriteJournal(plugin);
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "Title-WriteBehind");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 주기적 플러시 시작 (recover() 다음에 한 번 호출)
+     */
+    public void start() {
+        started = true;
+        scheduler.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 반영 완료 리스너 등록 (캐시 갱신, 동기화 발행용)
+     */
+    public void setListener(FlushListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * 칭호 추가 예약
+     */
+    public CompletableFuture<Boolean> addTitle(UUID uuid, String titleName, long obtainedAt) {
+        return enqueueTitle(uuid, titleName, true, obtainedAt, 0L);
+    }
+
+    /**
+     * 칭호 삭제 예약
+     */
+    public CompletableFuture<Boolean> deleteTitle(UUID uuid, String titleName) {
+        return enqueueTitle(uuid, titleName, false, 0L, 0L);
+    }
+
+    /**
+     * 선택 칭호 변경 예약 (null = 해제)
+     */
+    public CompletableFuture<Boolean> setSelectedTitle(UUID uuid, String titleName) {
+        return enqueueSelected(uuid, titleName, System.currentTimeMillis(), 0L);
+    }
+
+    /**
+     * 저널 열기 + 지난 실행에서 반영되지 못한 요청을 원래 번호 그대로 다시 큐에 넣음 (순서대로)
+     * 리스너 등록 후, start()와 새 요청보다 먼저 한 번 호출
+     */
+    public void recover() {
+        List<TitleWriteJournal.Entry> entries = journal.open();
+        if (entries.isEmpty()) return;
+
+        for (TitleWriteJournal.Entry entry : entries) {
+            switch (entry.type()) {
+                case ADD -> enqueueTitle(entry.uuid(), entry.titleName(), true, entry.timestamp(), entry.seq());
+                case REMOVE -> enqueueTitle(entry.uuid(), entry.titleName(), false, 0L, entry.seq());
+                case SELECT -> enqueueSelected(entry.uuid(), entry.titleName(), entry.timestamp(), entry.seq());
+            }
+        }
+        plugin.getLogger().warning("🔁 저널에서 MySQL에 반영되지 않은 칭호 쓰기 %d건 복구 → 다시 반영".formatted(entries.size()));
+    }
+
+    /**
+     * @param replayedSeq 저널에서 복구한 요청의 번호 (0이면 새 요청 - 저널에 기록)
+     */
+    private CompletableFuture<Boolean> enqueueSelected(UUID uuid, String titleName, long updatedAt, long replayedSeq) {
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+
+        synchronized (lock) {
+            long seq = replayedSeq > 0 ? replayedSeq
+                    : journal.append(TitleWriteJournal.Type.SELECT, uuid, titleName, updatedAt);
+            PlayerWrites writes = pending.computeIfAbsent(uuid, k -> new PlayerWrites());
+            SelectWrite previous = writes.selected;
+
+            List<CompletableFuture<Boolean>> waiters = previous != null ? previous.waiters : new ArrayList<>(1);
+            waiters.add(future);
+            long firstSeq = previous != null ? previous.firstSeq : seq;
+            writes.selected = new SelectWrite(titleName, updatedAt, firstSeq, waiters);
+
+            if (previous == null) pendingOps++;
+        }
+
+        onEnqueued();
+        return future;
+    }
+
+    /**
+     * @param replayedSeq 저널에서 복구한 요청의 번호 (0이면 새 요청 - 저널에 기록)
+     */
+    private CompletableFuture<Boolean> enqueueTitle(UUID uuid, String titleName, boolean add, long obtainedAt,
+                                                    long replayedSeq) {
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+
+        synchronized (lock) {
+            long seq = replayedSeq > 0 ? replayedSeq
+                    : journal.append(add ? TitleWriteJournal.Type.ADD : TitleWriteJournal.Type.REMOVE, uuid, titleName, obtainedAt);
+            PlayerWrites writes = pending.computeIfAbsent(uuid, k -> new PlayerWrites());
+            TitleWrite previous = writes.titles.get(titleName);
+
+            if (previous == null) {
+                List<CompletableFuture<Boolean>> waiters = new ArrayList<>(1);
+                waiters.add(future);
+                writes.titles.put(titleName, new TitleWrite(add, obtainedAt, false, seq, waiters));
+                pendingOps++;
+            } else {
+                // 마지막 요청이 이김 - 이전 요청과 반대면 결과는 DB 영향 행 수와 무관하게 성공
+                previous.waiters.add(future);
+                boolean coalesced = previous.coalesced || previous.add != add;
+                writes.titles.put(titleName, new TitleWrite(add, obtainedAt, coalesced, previous.firstSeq, previous.waiters));
+            }
+        }
+
+        onEnqueued();
+        return future;
+    }
+
+    private void onEnqueued() {
+        enqueuedOps.incrementAndGet();
+
+        // 임계치 도달 시 즉시 플러시 (복구 중에는 시작 후 첫 주기에 한꺼번에)
+        if (started && getQueueDepth() >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(() -> {
+                    flushScheduled.set(false);
+                    flushSafely();
+                });
+            } catch (Exception e) {
+                flushScheduled.set(false); // 종료 중 - shutdown()의 최종 플러시가 처리
+            }
+        }
+    }
+
+    private void flushSafely() {
+        // MySQL 장애 중 - 재시도 시각까지 대기 (요청은 큐와 저널에 남아 있음)
+        if (System.currentTimeMillis() < retryAtMillis) return;
+
+        try {
+            // 순서 보장을 위해 이 스레드에서 실행하되, 연결 사용은 저장소 실행기 제한을 따름
+            mysql.getExecutor().runBlocking(this::flush);
+        } catch (Exception e) {
+            plugin.getLogger().severe("❌ 칭호 쓰기 플러시 오류: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 대기 중인 쓰기를 하나의 트랜잭션으로 반영
+     * - 연결 오류 등 일시적인 오류: 묶음 전체를 큐에 되돌려 재시도
+     * - 다시 해도 실패할 오류 (제약 위반, 너무 긴 이름 등): 묶음을 나눠 원인 요청만 포기하고 나머지는 반영
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            Map<UUID, PlayerWrites> batch;
+            int ops;
+            long journaledSeq;
+            synchronized (lock) {
+                if (pending.isEmpty()) return;
+                batch = pending;
+                ops = pendingOps;
+                journaledSeq = journal.getLastSeq();
+                pending = new HashMap<>();
+                pendingOps = 0;
+            }
+
+            // 이 묶음의 요청이 저널에 남은 뒤에 반영 (실패해도 잃지 않음)
+            journal.awaitDurable(journaledSeq);
+
+            long start = System.nanoTime();
+            List<Runnable> completions = new ArrayList<>(ops);
+            List<AppliedWrite> applied = new ArrayList<>(ops);
+            Map<UUID, PlayerWrites> retry = Map.of();
+
+            try {
+                applyBatch(batch, completions, applied);
+            } catch (Exception e) {
+                if (isTransient(e)) {
+                    plugin.getLogger().severe("❌ 칭호 쓰기 배치 실패 (" + ops + "건): " + e.getMessage());
+                    retry = batch;
+                } else {
+                    plugin.getLogger().severe("❌ 칭호 쓰기 배치 실패 (%d건, 재시도해도 실패하는 오류 → 원인 요청 분리): %s"
+                            .formatted(ops, e.getMessage()));
+                    e.printStackTrace();
+                    retry = isolate(batch, completions, applied);
+                }
+            } finally {
+                recordFlush(System.nanoTime() - start, ops, retry.isEmpty());
+            }
+
+            if (retry.isEmpty()) {
+                onFlushSucceeded();
+            }
+            notifyListener(applied);
+            completions.forEach(Runnable::run);
+
+            if (retry.isEmpty()) {
+                // 모두 반영 (또는 포기)
+            } else if (journal.isEnabled()) {
+                // 저널에 남은 요청 - 큐에 되돌려 재시도하고, 호출자에게는 접수된 것으로 완료
+                requeue(retry);
+                onFlushFailed(countOps(retry));
+                completeAll(retry, true);
+            } else {
+                // 저널 없음 - 실패한 요청은 false로 완료 (호출자가 무한 대기하지 않도록)
+                completeAll(retry, false);
+            }
+
+            // 포기한 요청은 큐에 없으므로 확인 위치가 그 뒤로 넘어감
+            synchronized (lock) {
+                journal.confirm(confirmedSeq());
+            }
+        }
+    }
+
+    /**
+     * 묶음 하나를 한 트랜잭션으로 반영 (커밋된 경우에만 completions/applied에 추가)
+     */
+    private void applyBatch(Map<UUID, PlayerWrites> batch, List<Runnable> completions,
+                            List<AppliedWrite> applied) throws SQLException {
+        try (Connection conn = mysql.getConnection()) {
+            // 칭호 ID 확인 (새 칭호는 트랜잭션 밖에서 등록 - 롤백돼도 ID는 유지)
+            Set<String> grantedNames = new HashSet<>();
+            Set<String> removedNames = new HashSet<>();
+            for (PlayerWrites writes : batch.values()) {
+                writes.titles.forEach((name, write) -> (write.add ? grantedNames : removedNames).add(name));
+                if (writes.selected != null && writes.selected.titleName != null) {
+                    grantedNames.add(writes.selected.titleName);
+                }
+            }
+            Map<String, Integer> titleIds = catalog.resolveIds(conn, grantedNames, true);
+            titleIds.putAll(catalog.resolveIds(conn, removedNames, false));
+            
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement upsertTitle = conn.prepareStatement(upsertTitleSql);
+                 PreparedStatement deleteTitle = conn.prepareStatement(deleteTitleSql);
+                 PreparedStatement upsertSelected = conn.prepareStatement(upsertSelectedSql);
+                 PreparedStatement deleteSelected = conn.prepareStatement(deleteSelectedSql)) {
+
+                // 아직 구 테이블에 있는 플레이어는 먼저 옮김 (같은 트랜잭션, 이전이 끝났으면 생략)
+                boolean migrating = !migrator.isComplete();
+                if (migrating) {
+                    migrator.migratePlayers(conn, batch.keySet());
+                }
+
+                List<TitleWrite> upserts = new ArrayList<>();
+                List<TitleWrite> deletes = new ArrayList<>();
+                List<AppliedWrite> upsertApplied = new ArrayList<>();
+                List<AppliedWrite> deleteApplied = new ArrayList<>();
+                List<TitleWrite> skippedDeletes = new ArrayList<>();
+                List<SelectWrite> selects = new ArrayList<>();
+                List<AppliedWrite> selectApplied = new ArrayList<>();
+
+                for (Map.Entry<UUID, PlayerWrites> entry : batch.entrySet()) {
+                    UUID playerId = entry.getKey();
+                    byte[] uuid = UUIDUtils.toBytes(playerId);
+                    PlayerWrites writes = entry.getValue();
+
+                    for (Map.Entry<String, TitleWrite> title : writes.titles.entrySet()) {
+                        TitleWrite write = title.getValue();
+                        Integer titleId = titleIds.get(title.getKey());
+                        if (write.add) {
+                            upsertTitle.setBytes(1, uuid);
+                            upsertTitle.setInt(2, requireId(titleId, title.getKey()));
+                            upsertTitle.setLong(3, write.obtainedAt);
+                            upsertTitle.addBatch();
+                            upserts.add(write);
+                            upsertApplied.add(new AppliedWrite(
+                                    AppliedWrite.Type.ADD, playerId, title.getKey(), write.obtainedAt));
+                        } else if (titleId == null) {
+                            // 목록에 없는 칭호 - 보유한 플레이어가 없으므로 삭제할 행도 없음
+                            skippedDeletes.add(write);
+                        } else {
+                            deleteTitle.setBytes(1, uuid);
+                            deleteTitle.setInt(2, titleId);
+                            deleteTitle.addBatch();
+                            deletes.add(write);
+                            deleteApplied.add(new AppliedWrite(
+                                    AppliedWrite.Type.REMOVE, playerId, title.getKey(), System.currentTimeMillis()));
+                        }
+                    }
+
+                    SelectWrite select = writes.selected;
+                    if (select != null) {
+                        if (select.titleName != null) {
+                            upsertSelected.setBytes(1, uuid);
+                            upsertSelected.setInt(2, requireId(titleIds.get(select.titleName), select.titleName));
+                            upsertSelected.setLong(3, select.updatedAt);
+                            upsertSelected.addBatch();
+                        } else {
+                            deleteSelected.setBytes(1, uuid);
+                            deleteSelected.addBatch();
+                        }
+                        selects.add(select);
+                        selectApplied.add(new AppliedWrite(
+                                AppliedWrite.Type.SELECT, playerId, select.titleName, select.updatedAt));
+                    }
+                }
+
+                int[] upsertResults = upserts.isEmpty() ? new int[0] : upsertTitle.executeBatch();
+                int[] deleteResults = deletes.isEmpty() ? new int[0] : deleteTitle.executeBatch();
+                upsertSelected.executeBatch();
+                deleteSelected.executeBatch();
+                conn.commit();
+                if (migrating) {
+                    migrator.markMigrated(batch.keySet());
+                }
+
+                for (int i = 0; i < upserts.size(); i++) {
+                    boolean result = succeeded(upsertResults, i);
+                    completions.add(complete(upserts.get(i), result));
+                    if (result) applied.add(upsertApplied.get(i));
+                }
+                for (int i = 0; i < deletes.size(); i++) {
+                    TitleWrite write = deletes.get(i);
+                    boolean result = write.coalesced || succeeded(deleteResults, i);
+                    completions.add(complete(write, result));
+                    if (result) applied.add(deleteApplied.get(i));
+                }
+                for (TitleWrite write : skippedDeletes) {
+                    completions.add(complete(write, write.coalesced));
+                }
+                for (SelectWrite select : selects) {
+                    completions.add(() -> select.waiters.forEach(f -> f.complete(true)));
+                }
+                applied.addAll(selectApplied);
+
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+    }
+
+    /** 등록에 실패한 칭호 (다시 해도 같은 결과) */
+    private static int requireId(Integer titleId, String titleName) throws SQLException {
+        if (titleId == null) {
+            throw new SQLDataException("칭호 ID를 등록할 수 없습니다: " + titleName);
+        }
+        return titleId;
+    }
+
+    /**
+     * 다시 해도 실패하는 오류가 난 묶음을 반으로 나눠 가며 반영 - 요청 하나만 남아도 실패하면 포기
+     * 도중에 일시적인 오류가 나면 아직 반영하지 못한 요청을 반환 (재시도 대상)
+     */
+    private Map<UUID, PlayerWrites> isolate(Map<UUID, PlayerWrites> batch, List<Runnable> completions,
+                                            List<AppliedWrite> applied) {
+        Deque<List<WriteUnit>> work = new ArrayDeque<>();
+        work.push(WriteUnit.split(batch));
+        List<WriteUnit> leftovers = new ArrayList<>();
+
+        while (!work.isEmpty()) {
+            List<WriteUnit> part = work.pop();
+            try {
+                applyBatch(WriteUnit.merge(part), completions, applied);
+            } catch (Exception e) {
+                if (isTransient(e)) {
+                    leftovers.addAll(part);
+                    work.forEach(leftovers::addAll);
+                    break;
+                }
+                if (part.size() == 1) {
+                    deadLetter(part.get(0), e);
+                } else {
+                    int mid = part.size() / 2;
+                    work.push(part.subList(mid, part.size()));
+                    work.push(part.subList(0, mid));
+                }
+            }
+        }
+        return leftovers.isEmpty() ? Map.of() : WriteUnit.merge(leftovers);
+    }
+
+    /**
+     * 반영을 포기한 요청 - false로 완료하고 기록 (저널 확인 위치는 이 요청을 지나 계속 진행)
+     */
+    private void deadLetter(WriteUnit unit, Exception error) {
+        DeadLetter letter = unit.toDeadLetter(error.getMessage());
+        deadLettered.incrementAndGet();
+        synchronized (deadLetters) {
+            if (deadLetters.size() >= MAX_DEAD_LETTERS) deadLetters.removeFirst();
+            deadLetters.addLast(letter);
+        }
+        plugin.getLogger().severe("☠️ 칭호 쓰기 반영 포기: %s %s '%s' - %s".formatted(
+                letter.type(), letter.uuid(), letter.titleName(), letter.reason()));
+        unit.waiters().forEach(f -> f.complete(false));
+    }
+
+    /**
+     * 일시적인 오류인지 (연결 끊김/시간 초과, 교착 상태 등 - 다시 하면 성공할 수 있음)
+     */
+    private static boolean isTransient(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof SQLTransientException || t instanceof SQLRecoverableException
+                    || t instanceof SQLNonTransientConnectionException) {
+                return true;
+            }
+            // SQLState 08xxx = 연결 오류
+            if (t instanceof SQLException sql && sql.getSQLState() != null && sql.getSQLState().startsWith("08")) {
+                return true;
+            }
+            if (t.getCause() == t) break;
+        }
+        return false;
+    }
+
+    private static int countOps(Map<UUID, PlayerWrites> batch) {
+        int ops = 0;
+        for (PlayerWrites writes : batch.values()) {
+            ops += writes.titles.size() + (writes.selected != null ? 1 : 0);
+        }
+        return ops;
+    }
+
+    private static void completeAll(Map<UUID, PlayerWrites> batch, boolean result) {
+        for (PlayerWrites writes : batch.values()) {
+            writes.titles.values().forEach(w -> w.waiters.forEach(f -> f.complete(result)));
+            if (writes.selected != null) {
+                writes.selected.waiters.forEach(f -> f.complete(result));
+            }
+        }
+    }
+
+    /**
+     * 실패한 묶음을 큐에 되돌림 - 그 사이 들어온 같은 칭호/선택 요청이 있으면 새 요청이 이김
+     * 되돌린 요청의 future는 이미 완료되므로 넘기지 않음
+     */
+    private void requeue(Map<UUID, PlayerWrites> failed) {
+        synchronized (lock) {
+            failed.forEach((uuid, old) -> {
+                PlayerWrites writes = pending.computeIfAbsent(uuid, k -> new PlayerWrites());
+
+                old.titles.forEach((titleName, write) -> {
+                    TitleWrite newer = writes.titles.get(titleName);
+                    if (newer == null) {
+                        writes.titles.put(titleName, new TitleWrite(write.add, write.obtainedAt, write.coalesced,
+                                write.firstSeq, new ArrayList<>(1)));
+                        pendingOps++;
+                    } else {
+                        boolean coalesced = newer.coalesced || newer.add != write.add;
+                        writes.titles.put(titleName, new TitleWrite(newer.add, newer.obtainedAt, coalesced,
+                                write.firstSeq, newer.waiters));
+                    }
+                });
+
+                SelectWrite select = old.selected;
+                if (select != null) {
+                    if (writes.selected == null) {
+                        writes.selected = new SelectWrite(select.titleName, select.updatedAt, select.firstSeq, new ArrayList<>(1));
+                        pendingOps++;
+                    } else {
+                        writes.selected = new SelectWrite(writes.selected.titleName, writes.selected.updatedAt,
+                                select.firstSeq, writes.selected.waiters);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * 반영이 확인된 저널 위치 - 대기 중인 요청 중 가장 오래된 것의 바로 앞 (lock 안에서 호출)
+     */
+    private long confirmedSeq() {
+        long oldest = Long.MAX_VALUE;
+        for (PlayerWrites writes : pending.values()) {
+            for (TitleWrite write : writes.titles.values()) {
+                oldest = Math.min(oldest, write.firstSeq);
+            }
+            if (writes.selected != null) {
+                oldest = Math.min(oldest, writes.selected.firstSeq);
+            }
+        }
+        return oldest == Long.MAX_VALUE ? journal.getLastSeq() : oldest - 1;
+    }
+
+    private void onFlushFailed(int ops) {
+        failureStreak++;
+        long delay = Math.min(retryMaxMillis, 1000L << Math.min(failureStreak - 1, 16));
+        retryAtMillis = System.currentTimeMillis() + delay;
+        plugin.getLogger().warning("⚠️ 칭호 쓰기 %d건을 저널에 보관, %.1f초 후 다시 반영 (연속 실패 %d회)"
+                .formatted(ops, delay / 1000.0, failureStreak));
+    }
+
+    private void onFlushSucceeded() {
+        if (failureStreak > 0) {
+            plugin.getLogger().info("✅ MySQL 복구 - 보관된 칭호 쓰기 반영 완료 (연속 실패 %d회 후)".formatted(failureStreak));
+            failureStreak = 0;
+            retryAtMillis = 0L;
+        }
+    }
+
+    private void notifyListener(List<AppliedWrite> applied) {
+        FlushListener current = listener;
+        if (current == null || applied.isEmpty()) return;
+
+        try {
+            current.onFlushed(applied);
+        } catch (Exception e) {
+            plugin.getLogger().warning("칭호 쓰기 리스너 오류: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    private static Runnable complete(TitleWrite write, boolean result) {
+        return () -> write.waiters.forEach(f -> f.complete(result));
+    }
+
+    /** rewriteBatchedStatements 사용 시 SUCCESS_NO_INFO(-2)가 반환될 수 있음 */
+    private static boolean succeeded(int[] results, int index) {
+        if (index >= results.length) return true;
+        int result = results[index];
+        return result > 0 || result == Statement.SUCCESS_NO_INFO;
+    }
+
+    private void recordFlush(long nanos, int ops, boolean success) {
+        flushCount.incrementAndGet();
+        lastFlushNanos.set(nanos);
+        totalFlushNanos.addAndGet(nanos);
+        maxFlushNanos.accumulateAndGet(nanos, Math::max);
+        flushLatency.record(nanos);
+
+        if (success) {
+            flushedOps.addAndGet(ops);
+        } else {
+            failedFlushes.incrementAndGet();
+        }
+
+        plugin.getLogger().fine("💾 칭호 쓰기 플러시: %d건, %.2fms".formatted(ops, nanos / 1_000_000.0));
+    }
+
+    /**
+     * 종료 (onDisable) - 스케줄러를 멈추고 남은 쓰기를 호출 스레드에서 모두 반영
+     */
+    public void shutdown() {
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+                scheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        int remaining = getQueueDepth();
+        flush();
+        if (remaining > 0 && failureStreak == 0) {
+            plugin.getLogger().info("✅ 남은 칭호 쓰기 %d건 반영 완료".formatted(remaining));
+        }
+        journal.shutdown();
+    }
+
+    // ========================================
+    // 지표
+    // ========================================
+
+    /** 대기 중인 쓰기 수 (합쳐진 후 기준) */
+    public int getQueueDepth() {
+        synchronized (lock) {
+            return pendingOps;
+        }
+    }
+
+    public long getEnqueuedOps() {
+        return enqueuedOps.get();
+    }
+
+    public long getFlushedOps() {
+        return flushedOps.get();
+    }
+
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    public long getFailedFlushes() {
+        return failedFlushes.get();
+    }
+
+    /** 다시 해도 실패하는 오류로 반영을 포기한 요청 수 */
+    public long getDeadLettered() {
+        return deadLettered.get();
+    }
+
+    /** 최근 반영을 포기한 요청 (오래된 순) */
+    public List<DeadLetter> getDeadLetters() {
+        synchronized (deadLetters) {
+            return List.copyOf(deadLetters);
+        }
+    }
+
+    public double getLastFlushMillis() {
+        return lastFlushNanos.get() / 1_000_000.0;
+    }
+
+    public double getMaxFlushMillis() {
+        return maxFlushNanos.get() / 1_000_000.0;
+    }
+
+    public TitleWriteJournal getJournal() {
+        return journal;
+    }
+
+    /** 플러시 한 번(ID 조회 + 트랜잭션)에 걸린 시간 분포 */
+    public LatencyHistogram getFlushLatency() {
+        return flushLatency;
+    }
+
+    public double getAverageFlushMillis() {
+        long count = flushCount.get();
+        return count == 0 ? 0.0 : totalFlushNanos.get() / 1_000_000.0 / count;
+    }
+
+    // ========================================
+    // 반영 결과
+    // ========================================
+
+    /**
+     * 반영 완료 리스너
+     */
+    @FunctionalInterface
+    public interface FlushListener {
+        /**
+         * 플러시 하나에서 성공한 최종 쓰기 목록 (합쳐진 요청은 한 번만 포함)
+         */
+        void onFlushed(List<AppliedWrite> writes);
+    }
+
+    /**
+     * MySQL에 반영된 쓰기
+     *
+     * @param titleName SELECT에서 null이면 해제
+     * @param timestamp ADD는 획득 시간, 나머지는 반영 시간
+     */
+    public record AppliedWrite(Type type, UUID uuid, String titleName, long timestamp) {
+        public enum Type { ADD, REMOVE, SELECT }
+    }
+
+    // ========================================
+    // 대기 중인 쓰기
+    // ========================================
+
+    private static final class PlayerWrites {
+        private final Map<String, TitleWrite> titles = new LinkedHashMap<>();
+        private SelectWrite selected;
+    }
+
+    /** firstSeq: 합쳐진 요청 중 가장 오래된 저널 번호 (이 쓰기가 반영되면 그 앞까지 확인) */
+    private record TitleWrite(boolean add, long obtainedAt, boolean coalesced, long firstSeq,
+                              List<CompletableFuture<Boolean>> waiters) {
+    }
+
+    private record SelectWrite(String titleName, long updatedAt, long firstSeq,
+                               List<CompletableFuture<Boolean>> waiters) {
+    }
+
+    /**
+     * 반영을 포기한 요청
+     *
+     * @param titleName SELECT에서 null이면 해제
+     */
+    public record DeadLetter(AppliedWrite.Type type, UUID uuid, String titleName, String reason, long failedAt) {
+    }
+
+    /** 원인 요청을 찾을 때 나누는 단위 - 칭호 하나 또는 선택 하나 */
+    private record WriteUnit(UUID uuid, String titleName, TitleWrite title, SelectWrite select) {
+
+        static List<WriteUnit> split(Map<UUID, PlayerWrites> batch) {
+            List<WriteUnit> units = new ArrayList<>();
+            batch.forEach((uuid, writes) -> {
+                writes.titles.forEach((name, write) -> units.add(new WriteUnit(uuid, name, write, null)));
+                if (writes.selected != null) {
+                    units.add(new WriteUnit(uuid, writes.selected.titleName, null, writes.selected));
+                }
+            });
+            return units;
+        }
+
+        static Map<UUID, PlayerWrites> merge(List<WriteUnit> units) {
+            Map<UUID, PlayerWrites> batch = new HashMap<>();
+            for (WriteUnit unit : units) {
+                PlayerWrites writes = batch.computeIfAbsent(unit.uuid, k -> new PlayerWrites());
+                if (unit.title != null) {
+                    writes.titles.put(unit.titleName, unit.title);
+                } else {
+                    writes.selected = unit.select;
+                }
+            }
+            return batch;
+        }
+
+        List<CompletableFuture<Boolean>> waiters() {
+            return title != null ? title.waiters : select.waiters;
+        }
+
+        DeadLetter toDeadLetter(String reason) {
+            AppliedWrite.Type type = title == null ? AppliedWrite.Type.SELECT
+                    : title.add ? AppliedWrite.Type.ADD : AppliedWrite.Type.REMOVE;
+            return new DeadLetter(type, uuid, titleName, reason, System.currentTimeMillis());
+        }
+    }
+}
@@ -0,0 +1,517 @@
+package com.dotorimaru.title.database;
+
+import com.dotorimaru.title.metrics.LatencyHistogram;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * 칭호 쓰기 저널 (TitleWriteBehindQueue 전용, 추가 전용 로컬 파일)
+ * 쓰기 요청을 MySQL 반영 전에 기록해, MySQL 장애나 서버 중단에도 요청이 사라지지 않게 함
+ *
+ * - 기록은 전용 스레드가 모아서 한 번에 쓰고 fsync 한 번 (group commit)
+ * - 레코드: [길이][내용][CRC32], 끝이 잘린/깨진 레코드부터는 버림 (기록 중 중단)
+ * - MySQL 반영이 확인된 위치는 CONFIRM 레코드로 남기고, 시작 시 그 뒤의 레코드만 다시 반영
+ * - 모두 확인되면 파일을 비우고, 확인되지 않은 레코드가 남은 채 커지면 남은 것만 새 파일로 옮김
+ * - 확인되지 않은 레코드가 기준 크기/시간을 넘으면 경고 (MySQL 장애가 길어지거나 반영이 막힌 경우)
+ */
+public class TitleWriteJournal {
+
+    /** 저널 레코드 종류 (파일에 저장되는 값 - 바꾸지 말 것) */
+    public enum Type {
+        ADD(1), REMOVE(2), SELECT(3);
+
+        private final byte code;
+
+        Type(int code) {
+            this.code = (byte) code;
+        }
+
+        static Type of(byte code) {
+            for (Type type : values()) {
+                if (type.code == code) return type;
+            }
+            return null;
+        }
+    }
+
+    private static final byte CONFIRM = 9;
+    private static final int MAX_RECORD_BYTES = 64 * 1024;
+
+    /**
+     * 쓰기 요청 하나
+     *
+     * @param titleName SELECT에서 null이면 해제
+     * @param timestamp ADD는 획득 시간, SELECT는 선택 시간
+     */
+    public record Entry(long seq, Type type, UUID uuid, String titleName, long timestamp) {
+    }
+
+    private final JavaPlugin plugin;
+    private final boolean enabled;
+    private final Path file;
+    private final long compactBytes;
+    private final long alarmBytes;
+    private final long alarmAgeMillis;
+
+    private FileChannel channel;
+    private Thread thread;
+    private volatile boolean running;
+
+    // 기록 대기 (append는 호출자 스레드, 기록은 저널 스레드)
+    private final BlockingQueue<byte[]> queue = new LinkedBlockingQueue<>();
+    private final Object durableLock = new Object();
+    private volatile long lastSeq;         // 마지막으로 번호를 준 레코드 (append 호출자가 직렬화)
+    private volatile long durableSeq;      // fsync까지 끝난 마지막 레코드
+    private volatile long confirmedSeq;    // MySQL 반영이 확인된 마지막 레코드
+    private long writtenConfirmSeq;        // 파일에 CONFIRM으로 남긴 값 (저널 스레드 전용)
+    private volatile boolean broken;       // 디스크 오류 - 저널 없이 계속
+
+    // 확인되지 않은 레코드 (파일 정리 시 옮길 내용, 저널 스레드 전용)
+    private final TreeMap<Long, byte[]> unconfirmed = new TreeMap<>();
+    private final TreeMap<Long, Long> unconfirmedSince = new TreeMap<>();
+    private long unconfirmedBytes;
+
+    // 밀린 기록 (저널 스레드에서 갱신)
+    private volatile long backlogBytes;
+    private volatile long oldestUnconfirmedAt;
+    private long lastAlarmMillis;
+    private boolean alarming;
+
+    // 지표
+    private final AtomicLong appended = new AtomicLong();
+    private final AtomicLong syncs = new AtomicLong();
+    private final AtomicLong compactions = new AtomicLong();
+    private final LatencyHistogram syncLatency = new LatencyHistogram();
+
+    public TitleWriteJournal(JavaPlugin plugin) {
+        this.plugin = plugin;
+        this.enabled = plugin.getConfig().getBoolean("database.mysql.write-behind.journal.enabled", true);
+        this.file = new File(plugin.getDataFolder(), "journal/title-writes.journal").toPath();
+        this.compactBytes = Math.max(64 * 1024L,
+                plugin.getConfig().getLong("database.mysql.write-behind.journal.compact-bytes", 1024 * 1024L));
+        this.alarmBytes = Math.max(64 * 1024L,
+                plugin.getConfig().getLong("database.mysql.write-behind.journal.alarm-bytes", 16 * 1024 * 1024L));
+        this.alarmAgeMillis = Math.max(10L,
+                plugin.getConfig().getLong("database.mysql.write-behind.journal.alarm-age-seconds", 300L)) * 1000L;
+    }
+
+    public boolean isEnabled() {
+        return enabled && !broken;
+    }
+
+    /**
+     * 저널 열기 + 확인되지 않은 레코드 반환 (시작 시 한 번, 순서대로)
+     * 반환된 레코드는 번호 그대로 다시 큐에 넣을 것 (새로 기록하지 않음)
+     */
+    public List<Entry> open() {
+        if (!enabled) return List.of();
+
+        List<Entry> pending = new ArrayList<>();
+        try {
+            Files.createDirectories(file.getParent());
+            long validBytes = readExisting(pending);
+
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.READ);
+            if (channel.size() > validBytes) {
+                // 기록 도중 중단된 끝부분 제거
+                plugin.getLogger().warning("⚠️ 칭호 저널 끝의 손상된 기록 제거 (%d바이트)".formatted(channel.size() - validBytes));
+                channel.truncate(validBytes);
+                channel.force(true);
+            }
+            channel.position(validBytes);
+        } catch (IOException e) {
+            plugin.getLogger().severe("❌ 칭호 저널을 열 수 없습니다 (저널 없이 작동): " + e.getMessage());
+            broken = true;
+            return pending;
+        }
+
+        running = true;
+        thread = new Thread(this::runLoop, "Title-Journal");
+        thread.setDaemon(true);
+        thread.start();
+        return pending;
+    }
+
+    /**
+     * 기존 파일 읽기 - 확인 위치 이후의 레코드를 pending에 담고, 정상적으로 읽은 바이트 수 반환
+     */
+    private long readExisting(List<Entry> pending) throws IOException {
+        if (!Files.exists(file)) return 0L;
+
+        Map<Long, Entry> entries = new TreeMap<>();
+        long openedAt = System.currentTimeMillis();
+        long confirmed = 0L;
+        long validBytes = 0L;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                if (length <= 0 || length > MAX_RECORD_BYTES) break;
+
+                byte[] payload = new byte[length];
+                int crc;
+                try {
+                    in.readFully(payload);
+                    crc = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                if (crc != crc(payload)) break;
+
+                DataInputStream record = new DataInputStream(new ByteArrayInputStream(payload));
+                byte code = record.readByte();
+                long seq = record.readLong();
+                if (code == CONFIRM) {
+                    confirmed = Math.max(confirmed, seq);
+                } else {
+                    Type type = Type.of(code);
+                    if (type == null) break;
+                    UUID uuid = new UUID(record.readLong(), record.readLong());
+                    long timestamp = record.readLong();
+                    String titleName = record.readBoolean() ? record.readUTF() : null;
+                    entries.put(seq, new Entry(seq, type, uuid, titleName, timestamp));
+                    track(seq, frame(payload), openedAt);
+                }
+                lastSeq = Math.max(lastSeq, seq);
+                validBytes += 8L + length;
+            }
+        }
+
+        long watermark = confirmed;
+        entries.forEach((seq, entry) -> {
+            if (seq > watermark) pending.add(entry);
+        });
+        untrack(watermark);
+
+        durableSeq = lastSeq;
+        confirmedSeq = watermark;
+        writtenConfirmSeq = watermark;
+        return validBytes;
+    }
+
+    /**
+     * 레코드 추가 (기록은 저널 스레드가 비동기로) - 호출자가 순서를 직렬화할 것 (TitleWriteBehindQueue의 lock)
+     *
+     * @return 레코드 번호 (저널이 꺼져 있으면 0)
+     */
+    public long append(Type type, UUID uuid, String titleName, long timestamp) {
+        if (!running || broken) return 0L;
+
+        long seq = ++lastSeq;
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(type.code);
+            out.writeLong(seq);
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+            out.writeLong(timestamp);
+            out.writeBoolean(titleName != null);
+            if (titleName != null) out.writeUTF(titleName);
+            queue.add(frame(bytes.toByteArray()));
+        } catch (IOException e) {
+            // 메모리 스트림 - 발생하지 않음
+            throw new IllegalStateException(e);
+        }
+        appended.incrementAndGet();
+        return seq;
+    }
+
+    /** 마지막으로 번호를 준 레코드 (append와 같은 직렬화 안에서 호출) */
+    public long getLastSeq() {
+        return lastSeq;
+    }
+
+    /**
+     * seq까지 디스크에 기록될 때까지 대기 (쓰기 반영 스레드에서 호출)
+     * 저널 오류로 중단되면 기다리지 않음
+     */
+    public void awaitDurable(long seq) {
+        if (seq <= 0) return;
+        synchronized (durableLock) {
+            while (durableSeq < seq && running && !broken) {
+                try {
+                    durableLock.wait(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * seq까지 MySQL 반영 확인 (다음 기록 묶음과 함께 CONFIRM 레코드로 남김)
+     */
+    public void confirm(long seq) {
+        if (seq > confirmedSeq) {
+            confirmedSeq = seq;
+        }
+    }
+
+    private void runLoop() {
+        List<byte[]> batch = new ArrayList<>();
+
+        while (running || !queue.isEmpty()) {
+            try {
+                byte[] first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch);
+                }
+                writeBatch(batch);
+                checkBacklog();
+            } catch (InterruptedException e) {
+                if (!running) break;
+            } catch (IOException e) {
+                plugin.getLogger().severe("❌ 칭호 저널 기록 실패 (저널 없이 계속): " + e.getMessage());
+                broken = true;
+                synchronized (durableLock) {
+                    durableLock.notifyAll();
+                }
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+        try {
+            writeBatch(batch);
+        } catch (IOException e) {
+            plugin.getLogger().severe("❌ 칭호 저널 마지막 기록 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 묶음 기록 + 확인 위치 기록 + fsync 한 번, 필요하면 파일 정리
+     */
+    private void writeBatch(List<byte[]> batch) throws IOException {
+        long confirmed = confirmedSeq;
+        boolean confirmChanged = confirmed > writtenConfirmSeq;
+        if (batch.isEmpty() && !confirmChanged) return;
+
+        long start = System.nanoTime();
+        long now = System.currentTimeMillis();
+        long highest = durableSeq;
+        for (byte[] record : batch) {
+            long seq = seqOf(record);
+            track(seq, record, now);
+            highest = Math.max(highest, seq);
+            writeFully(ByteBuffer.wrap(record));
+        }
+        if (confirmChanged) {
+            untrack(confirmed);
+            writeFully(ByteBuffer.wrap(confirmRecord(confirmed)));
+            writtenConfirmSeq = confirmed;
+        }
+        channel.force(false);
+        syncs.incrementAndGet();
+        syncLatency.recordSince(start);
+
+        synchronized (durableLock) {
+            durableSeq = highest;
+            durableLock.notifyAll();
+        }
+
+        if (confirmChanged && channel.size() >= compactBytes) {
+            compact();
+        }
+    }
+
+    /** 확인되지 않은 레코드 추가 (저널 스레드 전용) */
+    private void track(long seq, byte[] record, long appendedAt) {
+        if (unconfirmed.put(seq, record) == null) {
+            unconfirmedBytes += record.length;
+            unconfirmedSince.put(seq, appendedAt);
+        }
+        publishBacklog();
+    }
+
+    /** seq까지 확인된 레코드 제거 (저널 스레드 전용) */
+    private void untrack(long seq) {
+        Map<Long, byte[]> confirmed = unconfirmed.headMap(seq, true);
+        for (byte[] record : confirmed.values()) {
+            unconfirmedBytes -= record.length;
+        }
+        confirmed.clear();
+        unconfirmedSince.headMap(seq, true).clear();
+        publishBacklog();
+    }
+
+    private void publishBacklog() {
+        backlogBytes = unconfirmedBytes;
+        oldestUnconfirmedAt = unconfirmedSince.isEmpty() ? 0L : unconfirmedSince.firstEntry().getValue();
+    }
+
+    /**
+     * 밀린 기록 경고 (기준을 넘은 동안 1분에 한 번, 풀리면 한 번)
+     */
+    private void checkBacklog() {
+        long now = System.currentTimeMillis();
+        long oldest = oldestUnconfirmedAt;
+        long age = oldest > 0 ? now - oldest : 0L;
+        boolean over = backlogBytes >= alarmBytes || age >= alarmAgeMillis;
+
+        if (over && now - lastAlarmMillis >= 60_000L) {
+            lastAlarmMillis = now;
+            alarming = true;
+            plugin.getLogger().severe("🚨 칭호 저널에 MySQL 반영이 확인되지 않은 기록이 쌓이고 있습니다: %d건, %.1fMB, 가장 오래된 기록 %d초 전 (MySQL 상태 확인 필요)"
+                    .formatted(unconfirmed.size(), backlogBytes / 1024.0 / 1024.0, age / 1000));
+        } else if (!over && alarming) {
+            alarming = false;
+            plugin.getLogger().info("✅ 칭호 저널의 밀린 기록 해소 (미반영 %d건)".formatted(unconfirmed.size()));
+        }
+    }
+
+    /**
+     * 파일 정리 - 확인되지 않은 레코드와 확인 위치만 새 파일에 쓰고 원자적으로 교체
+     */
+    private void compact() throws IOException {
+        long before = channel.size();
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            out.write(ByteBuffer.wrap(confirmRecord(writtenConfirmSeq)));
+            for (byte[] record : unconfirmed.values()) {
+                ByteBuffer buffer = ByteBuffer.wrap(record);
+                while (buffer.hasRemaining()) out.write(buffer);
+            }
+            out.force(true);
+        }
+
+        channel.close();
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.READ);
+        channel.position(channel.size());
+        compactions.incrementAndGet();
+
+        plugin.getLogger().fine("🧹 칭호 저널 정리: %d → %d바이트 (미반영 %d건)"
+                .formatted(before, channel.size(), unconfirmed.size()));
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * 종료 - 남은 레코드와 확인 위치를 기록하고 닫음
+     */
+    public void shutdown() {
+        if (thread == null) return;
+        running = false;
+        try {
+            thread.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            if (channel != null && channel.isOpen()) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            plugin.getLogger().warning("칭호 저널 닫기 실패: " + e.getMessage());
+        }
+
+        long remaining = lastSeq - confirmedSeq;
+        if (remaining > 0) {
+            plugin.getLogger().warning("⚠️ MySQL에 반영되지 않은 칭호 쓰기 %d건이 저널에 남아 있습니다 (다음 시작 시 반영)".formatted(remaining));
+        }
+    }
+
+    // ========================================
+    // 레코드 형식
+    // ========================================
+
+    private static byte[] confirmRecord(long seq) {
+        ByteBuffer payload = ByteBuffer.allocate(9);
+        payload.put(CONFIRM).putLong(seq);
+        return frame(payload.array());
+    }
+
+    /** [길이][내용][CRC32] */
+    private static byte[] frame(byte[] payload) {
+        ByteBuffer framed = ByteBuffer.allocate(payload.length + 8);
+        framed.putInt(payload.length).put(payload).putInt(crc(payload));
+        return framed.array();
+    }
+
+    /** 프레임에서 레코드 번호 (길이 4바이트 + 종류 1바이트 뒤) */
+    private static long seqOf(byte[] framed) {
+        return ByteBuffer.wrap(framed, 5, 8).getLong();
+    }
+
+    private static int crc(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    // ========================================
+    // 지표
+    // ========================================
+
+    public long getAppended() {
+        return appended.get();
+    }
+
+    /** fsync 횟수 (묶음 단위) */
+    public long getSyncs() {
+        return syncs.get();
+    }
+
+    public long getCompactions() {
+        return compactions.get();
+    }
+
+    /** MySQL 반영이 확인되지 않은 레코드 수 */
+    public long getUnconfirmed() {
+        return Math.max(0L, lastSeq - confirmedSeq);
+    }
+
+    /** 확인되지 않은 레코드 크기 (바이트) */
+    public long getBacklogBytes() {
+        return backlogBytes;
+    }
+
+    /** 확인되지 않은 가장 오래된 레코드가 기록된 뒤 지난 시간 (없으면 0) */
+    public double getOldestUnconfirmedAgeSeconds() {
+        long oldest = oldestUnconfirmedAt;
+        return oldest > 0 ? (System.currentTimeMillis() - oldest) / 1000.0 : 0.0;
+    }
+
+    public LatencyHistogram getSyncLatency() {
+        return syncLatency;
+    }
+}
@@ -1,138 +1,284 @@
 package com.dotorimaru.title.gui;
 
-import com.dotorimaru.core.builder.ItemBuilder;
 import com.dotorimaru.title.TitlePlugin;
-import com.dotorimaru.title.models.Title;
+import com.dotorimaru.title.managers.TitleManager;
+import com.dotorimaru.title.metrics.TickBudgetWatchdog;
+import com.dotorimaru.title.models.OwnedTitles;
 import org.bukkit.Bukkit;
-import org.bukkit.Material;
-import org.bukkit.NamespacedKey;
-import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.ItemFlag;
-import org.bukkit.inventory.ItemStack;
-import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.InventoryView;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.UUID;
 
 /**
- * 칭호 GUI (54칸)
+ * 칭호 GUI 세션 (페이지당 마지막 줄을 뺀 칸 수만큼, 기본 45개)
+ * 열린 인벤토리의 InventoryHolder - 리스너는 holder 확인 한 번으로 칭호 GUI를 구분
+ *
+ * - 보유 칭호는 OwnedTitles 그대로 들고, 보이는 페이지의 칸만 만듦 (획득 순 색인은 OwnedTitles가 보관)
+ * - 착용/해제/삭제/페이지 이동 시 창을 다시 열지 않고 바뀐 슬롯만 교체 (저장소 재조회 없음)
+ * - 반영에 실패하면 저장소에서 다시 읽어 새로 그림
+ * - 메인 스레드에서만 접근
  */
-public class TitleGUI {
-    
+public class TitleGUI implements InventoryHolder {
+
     private final TitlePlugin plugin;
     private final Player player;
-    private final NamespacedKey guiKey;
-    private final NamespacedKey titleKey;
-    
+
+    private Inventory inventory;
+    private int pageSize;
+    private int previousSlot;
+    private int nextSlot;
+
+    private OwnedTitles owned = OwnedTitles.EMPTY;
+    private int selectedId;
+    private int page;
+
     public TitleGUI(TitlePlugin plugin, Player player) {
         this.plugin = plugin;
         this.player = player;
-        this.guiKey = new NamespacedKey(plugin, "title_gui");
-        this.titleKey = new NamespacedKey(plugin, "title");
     }
-    
+
+    @Override
+    public Inventory getInventory() {
+        return inventory;
+    }
+
     /**
-     * GUI 열기
+     * GUI 열기 (첫 페이지)
      */
     public void open() {
-        plugin.getTitleManager().getTitles(player.getUniqueId()).thenAccept(titlesMap -> {
-            plugin.getTitleManager().getSelectedTitle(player.getUniqueId()).thenAccept(selectedTitle -> {
-                Bukkit.getScheduler().runTask(plugin, () -> {
-                    // Map을 List로 변환
-                    List<Title> titles = new ArrayList<>(titlesMap.values());
-                    Inventory inv = createInventory(titles, selectedTitle);
-                    player.openInventory(inv);
-                });
-            }).exceptionally(ex -> {
-                plugin.getLogger().severe("칭호 조회 실패: " + ex.getMessage());
-                return null;
-            });
+        open(0);
+    }
+
+    /**
+     * GUI 열기 (칭호 수가 줄어 없는 페이지면 마지막 페이지)
+     */
+    public void open(int startPage) {
+        TitleManager titleManager = plugin.getTitleManager();
+        UUID uuid = player.getUniqueId();
+
+        titleManager.loadOwnedTitles(uuid).thenCombine(titleManager.getSelectedTitle(uuid), (titles, selected) -> {
+            Integer id = selected != null ? titleManager.getCatalog().idOf(selected) : null;
+            Bukkit.getScheduler().runTask(plugin, () -> plugin.getTickWatchdog().run(TickBudgetWatchdog.Operation.GUI_OPEN, () -> {
+                owned = titles;
+                selectedId = id != null ? id : 0;
+                player.openInventory(createInventory(startPage));
+            }));
+            return null;
         }).exceptionally(ex -> {
             plugin.getLogger().severe("칭호 목록 로드 실패: " + ex.getMessage());
             player.sendMessage("§c칭호 GUI를 여는 중 오류가 발생했습니다.");
             return null;
         });
     }
-    
+
+    /**
+     * 인벤토리 생성 (마지막 줄 = 페이지 이동)
+     */
+    private Inventory createInventory(int startPage) {
+        int rows = Math.max(2, Math.min(6, plugin.getConfig().getInt("gui.size", 54) / 9));
+        int size = rows * 9;
+        pageSize = size - 9;
+        previousSlot = size - 9;
+        nextSlot = size - 1;
+        page = Math.max(0, Math.min(startPage, pageCount() - 1));
+
+        inventory = Bukkit.createInventory(this, size, inventoryTitle());
+        renderPage();
+        return inventory;
+    }
+
+    private int pageCount() {
+        return Math.max(1, (owned.size() + pageSize - 1) / pageSize);
+    }
+
+    private String inventoryTitle() {
+        int max = plugin.getTitleManager().getMaxTitles();
+        String titleTemplate = plugin.getConfig().getString("gui.title", "&6&l내 칭호 목록 &7({current}/{max}) &8[{page}/{pages}]");
+        return plugin.colorize(titleTemplate
+                .replace("{current}", String.valueOf(owned.size()))
+                .replace("{max}", max > 0 ? String.valueOf(max) : "∞")
+                .replace("{page}", String.valueOf(page + 1))
+                .replace("{pages}", String.valueOf(pageCount())));
+    }
+
+    /** 현재 페이지 전체 + 이동 버튼 다시 그리기 */
+    private void renderPage() {
+        renderFrom(0);
+    }
+
+    /** slot부터 페이지 끝까지 + 이동 버튼 다시 그리기 */
+    private void renderFrom(int slot) {
+        for (int i = slot; i < pageSize; i++) {
+            renderSlot(i);
+        }
+        inventory.setItem(previousSlot, page > 0 ? plugin.getTitleItemCache().navigation(false) : null);
+        inventory.setItem(nextSlot, page < pageCount() - 1 ? plugin.getTitleItemCache().navigation(true) : null);
+    }
+
+    /** 칭호 슬롯 하나 다시 그리기 (칭호가 없는 슬롯은 비움) */
+    private void renderSlot(int slot) {
+        int id = idAt(slot);
+        String titleName = id != 0 ? plugin.getTitleManager().getCatalog().nameOf(id) : null;
+        inventory.setItem(slot, titleName != null ? plugin.getTitleItemCache().get(titleName, id == selectedId) : null);
+    }
+
+    /** 현재 페이지 slot의 칭호 ID (없으면 0) */
+    private int idAt(int slot) {
+        int index = page * pageSize + slot;
+        if (slot < 0 || slot >= pageSize || index >= owned.size()) {
+            return 0;
+        }
+        return owned.idAt(owned.obtainOrder()[index]);
+    }
+
+    /** 현재 페이지에서 칭호가 있는 슬롯 (없으면 -1) */
+    private int slotOf(int titleId) {
+        if (titleId == 0) {
+            return -1;
+        }
+        for (int slot = 0; slot < pageSize; slot++) {
+            if (idAt(slot) == titleId) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
     /**
-     * 인벤토리 생성
+     * 클릭 처리 (TitleGUIListener에서 호출)
      */
-    private Inventory createInventory(List<Title> titles, String selectedTitle) {
-        int size = plugin.getConfig().getInt("gui.size", 54);
-        String titleTemplate = plugin.getConfig().getString("gui.title", "&6&l내 칭호 목록 &7({current}/{max})");
-        
-        String guiTitle = plugin.colorize(titleTemplate
-                .replace("{current}", String.valueOf(titles.size()))
-                .replace("{max}", "54"));
-        
-        Inventory inv = Bukkit.createInventory(null, size, guiTitle);
-        
-        // 칭호가 없는 경우
-        if (titles.isEmpty()) {
-            return inv;
+    public void handleClick(InventoryClickEvent event) {
+        TickBudgetWatchdog watchdog = plugin.getTickWatchdog();
+        long start = watchdog.begin();
+        try {
+            click(event);
+        } finally {
+            watchdog.end(TickBudgetWatchdog.Operation.GUI_CLICK, start);
+        }
+    }
+
+    private void click(InventoryClickEvent event) {
+        // 모든 클릭 취소 (아이템을 집지 못하도록)
+        event.setCancelled(true);
+
+        // 아래쪽 플레이어 인벤토리 클릭은 무시
+        if (event.getClickedInventory() != inventory) {
+            return;
+        }
+
+        int slot = event.getSlot();
+        if (slot == previousSlot && page > 0) {
+            movePage(page - 1);
+            return;
+        }
+        if (slot == nextSlot && page < pageCount() - 1) {
+            movePage(page + 1);
+            return;
+        }
+
+        int titleId = idAt(slot);
+        String titleName = titleId != 0 ? plugin.getTitleManager().getCatalog().nameOf(titleId) : null;
+        if (titleName == null) {
+            return;
         }
-        
-        // 칭호 아이템 추가
-        for (int i = 0; i < Math.min(titles.size(), size); i++) {
-            Title title = titles.get(i);
-            boolean isSelected = title.getTitleName().equals(selectedTitle);
-            
-            ItemStack item = createTitleItem(title, isSelected);
-            inv.setItem(i, item);
+
+        if (event.isShiftClick() && event.isRightClick()) {
+            // Shift + 우클릭 = 삭제
+            delete(slot, titleId, titleName);
+        } else if (event.isLeftClick()) {
+            // 좌클릭 = 착용/해제
+            toggleEquip(slot, titleId, titleName);
         }
-        
-        return inv;
     }
-    
+
+    private void movePage(int newPage) {
+        page = newPage;
+        renderPage();
+        updateTitle();
+    }
+
     /**
-     * 칭호 아이템 생성
+     * 칭호 삭제 - 뒤의 칭호를 한 칸씩 당기고 제목의 개수 갱신
      */
-    private ItemStack createTitleItem(Title title, boolean isSelected) {
-        String titleName = title.getTitleName();
-        String coloredTitle = plugin.colorize(titleName);
-        
-        // Config에서 아이템 설정 로드
-        String section = isSelected ? "gui.selected-item" : "gui.unselected-item";
-        Material material = Material.valueOf(plugin.getConfig().getString(section + ".material", "PAPER"));
-        String displayNameTemplate = plugin.getConfig().getString(section + ".display-name", coloredTitle);
-        List<String> loreTemplate = plugin.getConfig().getStringList(section + ".lore");
-        
-        // DisplayName 생성
-        String displayName = plugin.colorize(displayNameTemplate.replace("{title}", coloredTitle));
-        
-        // Lore 생성
-        List<String> lore = loreTemplate.stream()
-                .map(line -> plugin.colorize(line.replace("{title}", coloredTitle)))
-                .toList();
-        
-        // 아이템 빌더
-        ItemBuilder builder = new ItemBuilder(material)
-                .setDisplayName(displayName)
-                .setLore(lore);
-        
-        // 선택된 칭호는 인챈트 효과
-        if (isSelected && plugin.getConfig().getBoolean(section + ".enchant-glow", true)) {
-            builder.addEnchantment(Enchantment.LUCK_OF_THE_SEA, 1)
-                   .addItemFlag(ItemFlag.HIDE_ENCHANTS);
+    private void delete(int slot, int titleId, String titleName) {
+        plugin.getTitleManager().removeTitle(player.getUniqueId(), titleName).whenComplete((success, ex) -> {
+            if (ex != null || !Boolean.TRUE.equals(success)) {
+                refreshLater();
+            }
+        });
+
+        owned = owned.without(titleId);
+        if (selectedId == titleId) {
+            selectedId = 0;
+        }
+
+        // 마지막 페이지의 마지막 칭호였으면 앞 페이지로
+        if (page >= pageCount()) {
+            page = pageCount() - 1;
+            renderPage();
+        } else {
+            renderFrom(slot);
         }
-        
-        ItemStack item = builder.build();
-        
-        // PDC에 GUI 마커와 칭호 이름 저장 (같은 meta 객체 사용!)
-        var meta = item.getItemMeta();
-        if (meta != null) {
-            meta.getPersistentDataContainer().set(guiKey, PersistentDataType.STRING, "title_gui");
-            meta.getPersistentDataContainer().set(titleKey, PersistentDataType.STRING, titleName);
-            item.setItemMeta(meta);
-            
-            plugin.getLogger().info("🔍 [DEBUG] 칭호 아이템 PDC 설정 완료: " + titleName);
+        updateTitle();
+
+        String message = plugin.getMessage("title-deleted")
+                .replace("{title}", plugin.colorize(titleName));
+        player.sendMessage(message);
+    }
+
+    /**
+     * 칭호 착용/해제 - 이전 착용 칭호와 클릭한 칭호 슬롯만 교체
+     */
+    private void toggleEquip(int slot, int titleId, String titleName) {
+        int previous = selectedId;
+
+        if (titleId == previous) {
+            // 이미 착용 중 → 해제
+            selectedId = 0;
+            plugin.getTitleManager().unequipTitle(player.getUniqueId()).exceptionally(this::onEquipFailed);
+            player.sendMessage(plugin.getMessage("title-unequipped"));
         } else {
-            plugin.getLogger().severe("❌ [DEBUG] ItemMeta가 null!");
+            // 착용
+            selectedId = titleId;
+            plugin.getTitleManager().equipTitle(player.getUniqueId(), titleName).exceptionally(this::onEquipFailed);
+            String message = plugin.getMessage("title-equipped")
+                    .replace("{title}", plugin.colorize(titleName));
+            player.sendMessage(message);
+
+            int previousSlotOnPage = slotOf(previous);
+            if (previousSlotOnPage >= 0) {
+                renderSlot(previousSlotOnPage);
+            }
+        }
+        renderSlot(slot);
+    }
+
+    private Void onEquipFailed(Throwable ex) {
+        plugin.getLogger().warning("칭호 착용 반영 실패: " + ex.getMessage());
+        refreshLater();
+        return null;
+    }
+
+    /** 제목의 보유 개수/페이지 갱신 (이 창이 열려 있을 때만) */
+    private void updateTitle() {
+        InventoryView view = player.getOpenInventory();
+        if (view.getTopInventory() == inventory) {
+            view.setTitle(inventoryTitle());
         }
-        
-        return item;
+    }
+
+    /**
+     * 저장소에서 다시 읽어 새로 그림 (반영 실패 시, 다른 스레드에서 호출 가능)
+     */
+    private void refreshLater() {
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            if (player.getOpenInventory().getTopInventory() == inventory) {
+                open(page);
+            }
+        });
     }
 }
@@ -0,0 +1,166 @@
+package com.dotorimaru.title.gui;
+
+import com.dotorimaru.core.builder.ItemBuilder;
+import com.dotorimaru.title.TitlePlugin;
+import com.dotorimaru.title.cache.TitleRenderCache;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 칭호 GUI 아이템 캐시 (칭호 + 선택 여부별 원본 ItemStack)
+ * 처음 한 번만 만들고 이후에는 복사본을 반환 (메인 스레드에서 사용)
+ *
+ * - config 템플릿은 생성/리로드 시 한 번만 읽음 (페이지 이동 버튼 포함)
+ * - 칭호 렌더링 결과가 바뀌면 (렌더링 캐시 초기화 등) 다음 조회 시 다시 만듦
+ */
+public class TitleItemCache {
+
+    private final TitlePlugin plugin;
+    private final TitleRenderCache renderCache;
+    private final NamespacedKey guiKey;
+    private final NamespacedKey titleKey;
+
+    private final Map<String, CachedItem> selectedItems = new ConcurrentHashMap<>();
+    private final Map<String, CachedItem> unselectedItems = new ConcurrentHashMap<>();
+
+    private volatile ItemTemplate selectedTemplate;
+    private volatile ItemTemplate unselectedTemplate;
+
+    // 페이지 이동 버튼 (리로드 시 다시 만듦)
+    private volatile ItemStack previousPage;
+    private volatile ItemStack nextPage;
+
+    /**
+     * 원본 아이템 (만들 때 사용한 렌더링 결과와 함께 보관)
+     */
+    private record CachedItem(TitleRenderCache.RenderedTitle rendered, ItemStack prototype) {
+    }
+
+    /**
+     * config의 gui.selected-item / gui.unselected-item
+     */
+    private record ItemTemplate(Material material, String displayName, List<String> lore, boolean glow) {
+    }
+
+    public TitleItemCache(TitlePlugin plugin, TitleRenderCache renderCache) {
+        this.plugin = plugin;
+        this.renderCache = renderCache;
+        this.guiKey = new NamespacedKey(plugin, "title_gui");
+        this.titleKey = new NamespacedKey(plugin, "title");
+        reload();
+    }
+
+    /**
+     * config 템플릿 다시 읽고 캐시 비우기 (리로드 시)
+     */
+    public void reload() {
+        selectedTemplate = loadTemplate("gui.selected-item", true);
+        unselectedTemplate = loadTemplate("gui.unselected-item", false);
+        previousPage = null;
+        nextPage = null;
+        clear();
+    }
+
+    private ItemTemplate loadTemplate(String section, boolean selected) {
+        return new ItemTemplate(
+            loadMaterial(section, "PAPER"),
+            plugin.getConfig().getString(section + ".display-name", "{title}"),
+            plugin.getConfig().getStringList(section + ".lore"),
+            selected && plugin.getConfig().getBoolean(section + ".enchant-glow", true)
+        );
+    }
+
+    private Material loadMaterial(String section, String defaultMaterial) {
+        String materialName = plugin.getConfig().getString(section + ".material", defaultMaterial);
+        try {
+            return Material.valueOf(materialName);
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("⚠️ 잘못된 GUI 아이템 재질: %s (%s) → %s".formatted(materialName, section, defaultMaterial));
+            return Material.valueOf(defaultMaterial);
+        }
+    }
+
+    /**
+     * 페이지 이동 버튼 (복사본)
+     */
+    public ItemStack navigation(boolean next) {
+        ItemStack prototype = next ? nextPage : previousPage;
+        if (prototype == null) {
+            String section = next ? "gui.navigation.next" : "gui.navigation.previous";
+            prototype = new ItemBuilder(loadMaterial(section, "ARROW"))
+                    .setDisplayName(plugin.colorize(plugin.getConfig().getString(section + ".display-name",
+                            next ? "&e다음 페이지 ▶" : "&e◀ 이전 페이지")))
+                    .build();
+            if (next) {
+                nextPage = prototype;
+            } else {
+                previousPage = prototype;
+            }
+        }
+        return prototype.clone();
+    }
+
+    /**
+     * 칭호 아이템 (원본의 복사본 - 받은 쪽에서 수정해도 캐시에 영향 없음)
+     */
+    public ItemStack get(String titleName, boolean selected) {
+        Map<String, CachedItem> items = selected ? selectedItems : unselectedItems;
+        TitleRenderCache.RenderedTitle rendered = renderCache.get(titleName);
+
+        CachedItem cached = items.get(titleName);
+        if (cached == null || cached.rendered() != rendered) {
+            cached = new CachedItem(rendered, build(titleName, rendered, selected ? selectedTemplate : unselectedTemplate));
+            items.put(titleName, cached);
+        }
+        return cached.prototype().clone();
+    }
+
+    public void clear() {
+        selectedItems.clear();
+        unselectedItems.clear();
+    }
+
+    public int size() {
+        return selectedItems.size() + unselectedItems.size();
+    }
+
+    private ItemStack build(String titleName, TitleRenderCache.RenderedTitle rendered, ItemTemplate template) {
+        String coloredTitle = rendered.name();
+
+        ItemBuilder builder = new ItemBuilder(template.material())
+                .setDisplayName(plugin.colorize(template.displayName().replace("{title}", coloredTitle)))
+                .setLore(template.lore().stream()
+                        .map(line -> plugin.colorize(line.replace("{title}", coloredTitle)))
+                        .toList());
+
+        // 선택된 칭호는 인챈트 효과
+        if (template.glow()) {
+            builder.addEnchantment(Enchantment.LUCK_OF_THE_SEA, 1)
+                   .addItemFlag(ItemFlag.HIDE_ENCHANTS);
+        }
+
+        ItemStack item = builder.build();
+
+        // PDC에 GUI 마커와 칭호 이름 저장 (같은 meta 객체 사용!)
+        var meta = item.getItemMeta();
+        if (meta != null) {
+            meta.getPersistentDataContainer().set(guiKey, PersistentDataType.STRING, "title_gui");
+            meta.getPersistentDataContainer().set(titleKey, PersistentDataType.STRING, titleName);
+            item.setItemMeta(meta);
+
+            plugin.debug("칭호 아이템 생성: " + titleName);
+        } else {
+            plugin.getLogger().severe("❌ 칭호 아이템 ItemMeta가 null! (" + titleName + ")");
+        }
+
+        return item;
+    }
+}
@@ -4,9 +4,13 @@ import com.dotorimaru.title.TitlePlugin;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 
+import java.util.UUID;
+
 /**
  * 플레이어 접속/종료 시 칭호 캐시 관리
  */
@@ -18,18 +22,50 @@ public class PlayerJoinListener implements Listener {
         this.plugin = plugin;
     }
     
+    /**
+     * 접속 전 예열 (비동기 스레드)
+     * 다른 플러그인이 접속을 거부한 경우는 건너뜀
+     * 예열 전에 고정해 접속이 몰려도 결과가 캐시에서 밀려나지 않게 함 (거부/시간 초과 시 해제)
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            return;
+        }
+        
+        plugin.getTitleManager().reserveForLogin(event.getUniqueId());
+        plugin.getTitleManager().warmUp(event.getUniqueId());
+    }
+    
+    /**
+     * 예열 후 접속이 거부되면 (화이트리스트, 서버 가득 참 등) 고정 해제
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onLogin(PlayerLoginEvent event) {
+        if (event.getResult() != PlayerLoginEvent.Result.ALLOWED) {
+            plugin.getTitleManager().cancelLogin(event.getPlayer().getUniqueId());
+        }
+    }
+    
     @EventHandler(priority = EventPriority.LOWEST)
     public void onPlayerJoin(PlayerJoinEvent event) {
-        var player = event.getPlayer();
+        UUID uuid = event.getPlayer().getUniqueId();
+        
+        // 온라인 동안은 캐시에서 제거되지 않도록 고정
+        plugin.getTitleManager().pinCache(uuid);
+        
+        // 예열이 끝났으면 메인 스레드에서 할 일 없음
+        if (plugin.getTitleManager().isWarm(uuid)) {
+            return;
+        }
         
-        // 칭호 미리 로드 (캐시에 적재)
-        plugin.getTitleManager().loadTitles(player.getUniqueId());
-        plugin.getTitleManager().getSelectedTitle(player.getUniqueId());
+        // 예열 실패 시 다시 로드 (저장소 실행기에서 처리, 메인 스레드는 예약만 함)
+        plugin.getTitleManager().loadOwnedTitles(uuid);
     }
     
     @EventHandler
     public void onPlayerQuit(PlayerQuitEvent event) {
-        // 캐시 정리
-        plugin.getTitleManager().removeCache(event.getPlayer().getUniqueId());
+        // 캐시 고정 해제 (크기 제한 영역으로 이동)
+        plugin.getTitleManager().unpinCache(event.getPlayer().getUniqueId());
     }
 }
@@ -1,12 +1,20 @@
 package com.dotorimaru.title.listeners;
 
 import com.dotorimaru.title.TitlePlugin;
+import com.dotorimaru.title.managers.TitleManager;
+import com.dotorimaru.title.metrics.TickBudgetWatchdog;
+import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * 칭호북 우클릭 감지 리스너
  */
@@ -14,12 +22,25 @@ public class TitleBookUseListener implements Listener {
     
     private final TitlePlugin plugin;
     
+    // 칭호북 사용을 처리 중인 플레이어
+    private final Set<UUID> inProgress = ConcurrentHashMap.newKeySet();
+    
     public TitleBookUseListener(TitlePlugin plugin) {
         this.plugin = plugin;
     }
     
     @EventHandler
     public void onPlayerInteract(PlayerInteractEvent event) {
+        TickBudgetWatchdog watchdog = plugin.getTickWatchdog();
+        long start = watchdog.begin();
+        try {
+            handleInteract(event);
+        } finally {
+            watchdog.end(TickBudgetWatchdog.Operation.BOOK_USE, start);
+        }
+    }
+    
+    private void handleInteract(PlayerInteractEvent event) {
         Player player = event.getPlayer();
         ItemStack item = event.getItem();
         
@@ -41,39 +62,64 @@ public class TitleBookUseListener implements Listener {
             return;
         }
         
-        // 이미 보유 중인지 확인
-        plugin.getTitleManager().hasTitle(player.getUniqueId(), titleName).thenAccept(hasTitle -> {
+        // 처리 중인 칭호북 사용이 끝날 때까지 다시 사용하지 않음 (칭호 하나에 칭호북 두 개 소모 방지)
+        UUID uuid = player.getUniqueId();
+        if (!inProgress.add(uuid)) {
+            return;
+        }
+        
+        TitleManager titleManager = plugin.getTitleManager();
+        titleManager.hasTitle(uuid, titleName).thenCompose(hasTitle -> {
+            // 이미 보유 중
             if (hasTitle) {
-                // 이미 보유 중
-                String message = plugin.getMessage("already-owned")
-                        .replace("{title}", plugin.colorize(titleName));
-                player.sendMessage(message);
-                return;
+                return CompletableFuture.completedFuture(Result.ALREADY_OWNED);
             }
             
-            // 슬롯이 가득 찼는지 확인
-            plugin.getTitleManager().isFull(player.getUniqueId()).thenAccept(isFull -> {
-                if (isFull) {
-                    // 슬롯 가득 참
-                    player.sendMessage(plugin.getMessage("inventory-full"));
-                    return;
-                }
-                
-                // 칭호 추가
-                plugin.getTitleManager().addTitle(player.getUniqueId(), titleName);
-                
-                // 칭호북 제거
-                if (item.getAmount() > 1) {
-                    item.setAmount(item.getAmount() - 1);
+            // 슬롯이 가득 찼는지 확인 후 칭호 추가
+            return titleManager.isFull(uuid).thenCompose(isFull -> isFull
+                    ? CompletableFuture.completedFuture(Result.FULL)
+                    : titleManager.addTitle(uuid, titleName)
+                        .thenApply(success -> success ? Result.OBTAINED : Result.FAILED));
+        }).exceptionally(ex -> {
+            plugin.getLogger().warning("❌ 칭호북 사용 처리 실패 (%s): %s".formatted(titleName, ex.getMessage()));
+            return Result.FAILED;
+        }).thenAccept(result -> Bukkit.getScheduler().runTask(plugin, () -> {
+            // 플레이어/아이템은 메인 스레드에서만 다룸
+            inProgress.remove(uuid);
+            finish(player, item, titleName, result);
+        }));
+    }
+    
+    /**
+     * 결과 안내 + 칭호가 추가된 경우에만 칭호북 제거 (메인 스레드)
+     */
+    private void finish(Player player, ItemStack book, String titleName, Result result) {
+        switch (result) {
+            case ALREADY_OWNED -> player.sendMessage(plugin.getMessage("already-owned")
+                    .replace("{title}", plugin.colorize(titleName)));
+            case FULL -> player.sendMessage(plugin.getMessage("inventory-full")
+                    .replace("{max}", String.valueOf(plugin.getTitleManager().getMaxTitles())));
+            case FAILED -> player.sendMessage(plugin.getMessage("title-add-failed"));
+            case OBTAINED -> {
+                // 칭호북 제거 (그 사이 손에 든 아이템이 바뀌었으면 인벤토리에서 같은 칭호북 하나)
+                ItemStack held = player.getInventory().getItemInMainHand();
+                if (!held.isSimilar(book)) {
+                    ItemStack one = book.clone();
+                    one.setAmount(1);
+                    player.getInventory().removeItem(one);
+                } else if (held.getAmount() > 1) {
+                    held.setAmount(held.getAmount() - 1);
                 } else {
                     player.getInventory().setItemInMainHand(null);
                 }
                 
-                // 메시지 전송
-                String message = plugin.getMessage("title-obtained")
-                        .replace("{title}", plugin.colorize(titleName));
-                player.sendMessage(message);
-            });
-        });
+                player.sendMessage(plugin.getMessage("title-obtained")
+                        .replace("{title}", plugin.colorize(titleName)));
+            }
+        }
+    }
+    
+    private enum Result {
+        OBTAINED, ALREADY_OWNED, FULL, FAILED
     }
 }
@@ -1,16 +1,36 @@
 package com.dotorimaru.title.managers;
 
 import com.dotorimaru.title.TitlePlugin;
+import com.dotorimaru.title.cache.PlayerTitleCache;
+import com.dotorimaru.title.cache.TitleRenderCache;
+import com.dotorimaru.title.cache.TitleSnapshot;
+import com.dotorimaru.title.database.TitleCatalog;
 import com.dotorimaru.title.database.TitleRedisManager;
 import com.dotorimaru.title.database.TitleStorage;
+import com.dotorimaru.title.metrics.LatencyHistogram;
+import com.dotorimaru.title.models.OwnedTitles;
 import com.dotorimaru.title.models.Title;
-import org.bukkit.Bukkit;
+import com.dotorimaru.title.models.TitleSyncEvent;
+import lombok.Getter;
 import org.bukkit.entity.Player;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
 
 /**
  * 칭호 관리자 (비즈니스 로직)
@@ -19,16 +39,77 @@ public class TitleManager {
     private final TitlePlugin plugin;
     private final TitleStorage storage;
     private final TitleRedisManager redis;
+    @Getter
+    private final TitleCatalog catalog;
     
-    // 로컬 캐시 (빠른 접근)
-    private final Map<UUID, Map<String, Title>> titleCache = new ConcurrentHashMap<>();
-    private final Map<UUID, String> selectedTitleCache = new ConcurrentHashMap<>();
+    // 로컬 캐시 (보유 칭호 + 선택 칭호 + 동기화 버전, 온라인 플레이어 고정 + 나머지 크기 제한)
+    @Getter
+    private final PlayerTitleCache playerCache = new PlayerTitleCache();
+    
+    // 다시 로드 중인 온라인 플레이어의 마지막 개수 (PlaceholderAPI가 0을 보이지 않도록)
+    private final Map<UUID, Integer> reloadingCounts = new ConcurrentHashMap<>();
+    private final Set<UUID> countLoading = ConcurrentHashMap.newKeySet();
+    
+    // 접속 대기 중인 플레이어 (접속 전 예열 시 고정 → 접속하면 그대로, 거부/시간 초과 시 해제)
+    private final Map<UUID, Long> pendingLogins = new ConcurrentHashMap<>();
+    private static final long PENDING_LOGIN_TIMEOUT_MS = 60_000L;
+    
+    // 진행 중인 로드 (UUID당 하나, 동시에 요청한 호출자는 같은 future 공유)
+    private final Map<UUID, InFlightLoad> inFlightLoads = new ConcurrentHashMap<>();
+    private final LongAdder sharedLoads = new LongAdder();
+    private final LongAdder retriedLoads = new LongAdder();
+    
+    // 동기화 이벤트 지연 (다른 서버에서 쓰기를 요청한 시각 → 이 서버에서 적용한 시각, 서버 간 시계 차이 포함)
+    @Getter
+    private final LatencyHistogram syncLag = new LatencyHistogram();
+    
+    // 로드 도중 쓰기/동기화 이벤트가 있으면 결과를 버리고 다시 읽는 최대 횟수
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+    
+    // 재시작 스냅샷 (이전 종료 시 기록, 처음 조회될 때 꺼내 쓰고 버전은 백그라운드에서 확인)
+    private static final long SNAPSHOT_VERIFY_DELAY_MS = 100L;
+    private volatile TitleSnapshot snapshot;
+    private volatile long snapshotExpiresAt;
+    private final Map<UUID, PlayerTitleCache.CachedPlayer> snapshotUnverified = new ConcurrentHashMap<>();
+    private final AtomicBoolean snapshotVerifyScheduled = new AtomicBoolean();
+    private final LongAdder snapshotHits = new LongAdder();
+    private final LongAdder snapshotStale = new LongAdder();
+    
+    // 렌더링 캐시 (PlaceholderAPI / 채팅용)
+    @Getter
+    private final TitleRenderCache renderCache = new TitleRenderCache();
     
     public TitleManager(TitlePlugin plugin, TitleStorage storage, TitleRedisManager redis) {
+        this(plugin, storage, redis, storage.getCatalog());
+    }
+    
+    public TitleManager(TitlePlugin plugin, TitleStorage storage, TitleRedisManager redis, TitleCatalog catalog) {
         this.plugin = plugin;
         this.storage = storage;
         this.redis = redis;
+        this.catalog = catalog;
+    }
+    
+    /**
+     * 멀티서버 동기화 시작 (생성 후 플러그인 활성화 시 한 번 호출)
+     */
+    public void start() {
+        configureCache();
+        openSnapshot();
         setupRedisSync();
+        
+        // 접속하지 않은 예열 고정 정리 (메인 스레드)
+        long sweepTicks = PENDING_LOGIN_TIMEOUT_MS / 50L / 2L;
+        plugin.getServer().getScheduler().runTaskTimer(plugin, this::expirePendingLogins, sweepTicks, sweepTicks);
+    }
+    
+    /**
+     * 로컬 캐시 크기/만료 설정 적용 (시작, 리로드 시)
+     */
+    public void configureCache() {
+        playerCache.configure(
+            plugin.getConfig().getLong("cache.local.max-offline-entries", PlayerTitleCache.DEFAULT_MAX_OFFLINE),
+            plugin.getConfig().getLong("cache.local.expire-after-access-seconds", PlayerTitleCache.DEFAULT_EXPIRE_SECONDS));
     }
     
     /**
@@ -40,51 +121,568 @@ public class TitleManager {
             return;
         }
         
+        // 로컬 캐시(동시성 안전)만 다루므로 메인 스레드 밖에서 처리
         redis.addHandler(message -> {
-            // 메시지 형식: title-add:{uuid}:{titleName}
-            // title-remove:{uuid}:{titleName}
-            // title-select:{uuid}:{titleName}
+            TitleSyncEvent event = TitleSyncEvent.parse(message);
+            if (event == null) {
+                plugin.getLogger().warning("잘못된 Title Redis 메시지: " + message);
+                return;
+            }
             
-            String[] parts = message.split(":", 3);
-            if (parts.length < 2) return;
+            applySyncEvent(event);
+            plugin.getLogger().fine("🔄 Title Redis 동기화: " + message);
+        });
+        
+        // 재연결 시 끊긴 동안 놓친 변경분 확인
+        redis.addResyncListener(this::revalidateCachedPlayers);
+        
+        // 이 서버의 쓰기가 받은 버전을 캐시에 반영
+        storage.setVersionListener(this::applyLocalVersion);
+        
+        plugin.getLogger().info("✅ Title Redis 핸들러 등록 완료");
+    }
+    
+    /**
+     * 동기화 이벤트 적용
+     * - 다음 버전이면 변경분을 캐시에 바로 반영
+     * - 이미 반영된 버전이면 무시 (자신이 보낸 메시지, 중복)
+     * - 버전이 건너뛰었으면 (메시지 유실/역순) 전체 다시 로드
+     */
+    private void applySyncEvent(TitleSyncEvent event) {
+        UUID uuid = event.uuid();
+        invalidateInFlight(uuid);
+        
+        // 구버전 서버의 메시지 - 변경분을 신뢰할 수 없으므로 다시 로드
+        if (event.isLegacy()) {
+            reloadPlayer(uuid);
+            return;
+        }
+        syncLag.recordMillis(System.currentTimeMillis() - event.timestamp());
+        
+        // 이 서버가 아직 모르는 칭호 (다른 서버에서 처음 생성) - ID를 알 수 없으므로 다시 로드
+        Integer titleId = event.titleName() != null ? catalog.idOf(event.titleName()) : null;
+        boolean unknownTitle = event.titleName() != null && titleId == null;
+        
+        boolean[] gap = {false};
+        PlayerTitleCache.CachedPlayer applied = playerCache.computeIfPresent(uuid, (key, current) -> {
+            if (event.version() <= current.version()) {
+                return current;
+            }
+            if (event.version() != current.version() + 1 || unknownTitle) {
+                gap[0] = true;
+                return current;
+            }
+            return applyDelta(current, event, titleId).withVersion(event.version());
+        });
+        
+        if (gap[0]) {
+            plugin.getLogger().fine("🔄 Title 동기화 버전 누락 감지 (%s) → 다시 로드".formatted(uuid));
+            reloadPlayer(uuid);
+        } else if (applied != null && event.action() != TitleSyncEvent.Action.REMOVE) {
+            renderCache.get(event.titleName());
+        }
+    }
+    
+    /**
+     * 이 서버의 쓰기가 받은 버전 반영 (변경분은 쓰기 완료 시 이미 캐시에 반영됨)
+     * - 다음 버전이면 버전만 올림
+     * - 그 사이 다른 서버의 변경이 있었으면 (아직 도착 전) 전체 다시 로드
+     */
+    private void applyLocalVersion(UUID uuid, long version) {
+        boolean[] gap = {false};
+        playerCache.computeIfPresent(uuid, (key, current) -> {
+            if (version <= current.version()) {
+                return current;
+            }
+            if (version != current.version() + 1) {
+                gap[0] = true;
+                return current;
+            }
+            return current.withVersion(version);
+        });
+        
+        if (gap[0]) {
+            plugin.getLogger().fine("🔄 Title 쓰기 버전 사이 다른 서버 변경 감지 (%s) → 다시 로드".formatted(uuid));
+            reloadPlayer(uuid);
+        }
+    }
+    
+    /**
+     * 변경분을 캐시된 상태에 반영한 새 상태
+     */
+    private PlayerTitleCache.CachedPlayer applyDelta(PlayerTitleCache.CachedPlayer current, TitleSyncEvent event,
+                                                     Integer titleId) {
+        return switch (event.action()) {
+            case ADD -> titleId == null ? current : current.withTitles(titles -> titles.with(titleId, event.timestamp()));
+            case REMOVE -> titleId == null ? current : current.withTitles(titles -> titles.without(titleId));
+            case SELECT -> current.withSelected(titleId != null ? titleId : 0);
+        };
+    }
+    
+    /**
+     * 캐시된 플레이어의 버전을 Redis와 비교해 다른 플레이어만 다시 로드 (비동기)
+     * 동기화 연결이 끊겼다가 다시 붙었을 때 호출
+     */
+    public void revalidateCachedPlayers() {
+        if (!plugin.isEnabled()) return;
+        
+        Map<UUID, Long> cachedVersions = playerCache.versions();
+        if (cachedVersions.isEmpty()) return;
+        
+        List<UUID> uuids = new ArrayList<>(cachedVersions.keySet());
+        storage.getVersions(uuids).thenAccept(versions -> {
+            int stale = 0;
+            for (int i = 0; i < uuids.size(); i++) {
+                if (versions[i] < 0) continue;
+                
+                Long local = cachedVersions.get(uuids.get(i));
+                if (local != null && local != versions[i]) {
+                    reloadPlayer(uuids.get(i));
+                    stale++;
+                }
+            }
             
-            String action = parts[0];
-            String uuidStr = parts[1];
+            if (stale > 0) {
+                plugin.getLogger().info("🔄 Title 동기화 재검증: %d명 다시 로드".formatted(stale));
+            }
+        });
+    }
+    
+    /**
+     * 플레이어 캐시를 버리고 다시 로드 (온라인이면 백그라운드에서)
+     * 개수는 새 값이 올 때까지 마지막 값을 유지
+     */
+    private void reloadPlayer(UUID uuid) {
+        PlayerTitleCache.CachedPlayer removed = playerCache.invalidate(uuid);
+        
+        if (playerCache.isPinned(uuid)) {
+            if (removed != null) {
+                reloadingCounts.put(uuid, removed.titles().size());
+            }
+            refreshTitleCount(uuid);
+        }
+    }
+    
+    /**
+     * 로드 결과를 로컬 캐시에 저장
+     * 로드 도중 더 최신 변경분이 이미 반영되었으면 오래된 결과는 버림
+     */
+    public void cachePlayerData(UUID uuid, TitleStorage.PlayerTitleData data) {
+        playerCache.compute(uuid, (key, current) -> {
+            if (current != null && current.version() > data.version()) {
+                return current;
+            }
+            return new PlayerTitleCache.CachedPlayer(data.titles(), data.selectedId(), data.version());
+        });
+        reloadingCounts.remove(uuid);
+        warmRenderCache(data);
+    }
+    
+    // ========================================
+    // 재시작 스냅샷
+    // ========================================
+    
+    private Path snapshotFile() {
+        return plugin.getDataFolder().toPath().resolve("cache").resolve("title-state.snapshot");
+    }
+    
+    /**
+     * 이전 종료 시 남긴 스냅샷 열기 (시작 시 한 번, UUID 색인만 만들고 항목은 조회될 때 읽음)
+     * 연 파일은 바로 지움 - 비정상 종료 후 재시작 시 오래된 스냅샷을 다시 쓰지 않도록
+     */
+    private void openSnapshot() {
+        if (!plugin.getConfig().getBoolean("cache.snapshot.enabled", true)) return;
+        
+        Path file = snapshotFile();
+        long maxAgeMillis = Math.max(1, plugin.getConfig().getLong("cache.snapshot.max-age-seconds", 600L)) * 1000L;
+        long start = System.nanoTime();
+        try {
+            TitleSnapshot opened = TitleSnapshot.open(file);
+            if (opened == null) return;
             
-            try {
-                UUID uuid = UUID.fromString(uuidStr);
-                
-                // 캐시 무효화
-                titleCache.remove(uuid);
-                
-                if ("title-select".equals(action)) {
-                    selectedTitleCache.remove(uuid);
+            long age = System.currentTimeMillis() - opened.getWrittenAt();
+            if (age > maxAgeMillis) {
+                plugin.getLogger().info("📦 Title 스냅샷이 오래되어 사용하지 않음 (%d초 전 기록)".formatted(age / 1000));
+            } else {
+                snapshotExpiresAt = opened.getWrittenAt() + maxAgeMillis;
+                snapshot = opened;
+                plugin.getLogger().info("📦 Title 스냅샷 로드: %d명 (%d초 전 기록, %.1fms)".formatted(
+                    opened.remaining(), age / 1000, (System.nanoTime() - start) / 1_000_000.0));
+            }
+        } catch (IOException e) {
+            plugin.getLogger().warning("⚠️ Title 스냅샷을 읽지 못해 무시합니다: " + e.getMessage());
+        }
+        
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            plugin.getLogger().fine("Title 스냅샷 삭제 실패: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 로컬 캐시 전체를 스냅샷으로 기록 (종료 시, 대기 중인 쓰기를 반영한 뒤)
+     */
+    public void saveSnapshot() {
+        closeSnapshot();
+        if (!plugin.getConfig().getBoolean("cache.snapshot.enabled", true)) return;
+        
+        Map<UUID, PlayerTitleCache.CachedPlayer> entries = playerCache.entries();
+        long start = System.nanoTime();
+        try {
+            long bytes = TitleSnapshot.write(snapshotFile(), entries);
+            plugin.getLogger().info("📦 Title 스냅샷 저장: %d명, %dKB (%.1fms)".formatted(
+                entries.size(), bytes / 1024, (System.nanoTime() - start) / 1_000_000.0));
+        } catch (IOException e) {
+            plugin.getLogger().warning("⚠️ Title 스냅샷 저장 실패: " + e.getMessage());
+        }
+    }
+    
+    private void closeSnapshot() {
+        TitleSnapshot current = snapshot;
+        snapshot = null;
+        if (current != null) {
+            current.close();
+        }
+    }
+    
+    /**
+     * 로컬 캐시 조회, 없으면 재시작 스냅샷에서 꺼냄
+     */
+    private PlayerTitleCache.CachedPlayer cachedOrRestored(UUID uuid) {
+        PlayerTitleCache.CachedPlayer cached = playerCache.get(uuid);
+        return cached != null ? cached : restoreFromSnapshot(uuid);
+    }
+    
+    /**
+     * 스냅샷 항목을 로컬 캐시에 넣고 바로 반환 (버전 확인은 백그라운드, 호출자는 기다리지 않음)
+     * 이 서버가 모르는 칭호 ID가 있으면 사용하지 않음 (저장소 로드에서 이름까지 확인)
+     *
+     * @return 스냅샷에 없으면 null
+     */
+    private PlayerTitleCache.CachedPlayer restoreFromSnapshot(UUID uuid) {
+        TitleSnapshot current = snapshot;
+        if (current == null) return null;
+        if (System.currentTimeMillis() > snapshotExpiresAt) {
+            closeSnapshot();
+            return null;
+        }
+        
+        PlayerTitleCache.CachedPlayer restored = current.take(uuid);
+        if (restored == null || !isCatalogued(restored)) return null;
+        
+        boolean[] stored = {false};
+        PlayerTitleCache.CachedPlayer cached = playerCache.compute(uuid, (key, existing) -> {
+            if (existing != null) return existing;
+            stored[0] = true;
+            return restored;
+        });
+        
+        if (stored[0]) {
+            snapshotHits.increment();
+            warmRenderCache(new TitleStorage.PlayerTitleData(restored.titles(), restored.selected(), restored.version()));
+            scheduleSnapshotVerify(uuid, restored);
+        }
+        return cached;
+    }
+    
+    private boolean isCatalogued(PlayerTitleCache.CachedPlayer cached) {
+        if (cached.selected() != 0 && catalog.nameOf(cached.selected()) == null) return false;
+        for (int i = 0; i < cached.titles().size(); i++) {
+            if (catalog.nameOf(cached.titles().idAt(i)) == null) return false;
+        }
+        return true;
+    }
+    
+    /**
+     * 꺼낸 항목 확인 예약 (짧게 모아서 한 번에 확인)
+     */
+    private void scheduleSnapshotVerify(UUID uuid, PlayerTitleCache.CachedPlayer restored) {
+        snapshotUnverified.put(uuid, restored);
+        if (snapshotVerifyScheduled.compareAndSet(false, true)) {
+            CompletableFuture.runAsync(this::verifySnapshotEntries,
+                CompletableFuture.delayedExecutor(SNAPSHOT_VERIFY_DELAY_MS, TimeUnit.MILLISECONDS));
+        }
+    }
+    
+    /**
+     * 스냅샷에서 꺼낸 항목 확인
+     * - Redis 버전(왕복 1회)이 다르면 다시 로드
+     * - 버전을 알 수 없으면 (Redis 비활성화/장애) MySQL 값과 비교해 다르면 교체
+     */
+    private void verifySnapshotEntries() {
+        snapshotVerifyScheduled.set(false);
+        
+        Map<UUID, PlayerTitleCache.CachedPlayer> batch = new HashMap<>();
+        for (UUID uuid : snapshotUnverified.keySet()) {
+            PlayerTitleCache.CachedPlayer restored = snapshotUnverified.remove(uuid);
+            if (restored != null) batch.put(uuid, restored);
+        }
+        if (batch.isEmpty()) return;
+        
+        List<UUID> uuids = new ArrayList<>(batch.keySet());
+        storage.getVersions(uuids).thenCompose(versions -> {
+            List<UUID> unversioned = new ArrayList<>();
+            for (int i = 0; i < uuids.size(); i++) {
+                if (versions[i] < 0) {
+                    unversioned.add(uuids.get(i));
+                } else if (versions[i] != batch.get(uuids.get(i)).version()) {
+                    snapshotStale.increment();
+                    reloadPlayer(uuids.get(i));
                 }
-                
-                plugin.getLogger().fine("🔄 Title Redis 동기화: " + message);
-                
-            } catch (IllegalArgumentException e) {
-                plugin.getLogger().warning("잘못된 Title Redis 메시지: " + message);
             }
+            if (unversioned.isEmpty()) return CompletableFuture.completedFuture(null);
+            
+            return storage.loadPlayerDataBulk(unversioned).thenAccept(loaded -> loaded.forEach((uuid, data) -> {
+                PlayerTitleCache.CachedPlayer restored = batch.get(uuid);
+                if (restored.selected() != data.selectedId() || !restored.titles().equals(data.titles())) {
+                    snapshotStale.increment();
+                    replaceRestored(uuid, restored, data);
+                }
+            }));
+        }).exceptionally(ex -> {
+            // 확인하지 못한 항목은 Redis 재연결 시 재검증에서 다시 비교됨
+            plugin.getLogger().warning("Title 스냅샷 확인 실패: " + ex.getMessage());
+            return null;
+        });
+    }
+    
+    /**
+     * 스냅샷 항목을 저장소 값으로 교체 (그 사이 캐시가 바뀌었으면 다시 로드)
+     */
+    private void replaceRestored(UUID uuid, PlayerTitleCache.CachedPlayer restored, TitleStorage.PlayerTitleData data) {
+        boolean[] replaced = {false};
+        playerCache.computeIfPresent(uuid, (key, current) -> {
+            if (current != restored) return current;
+            replaced[0] = true;
+            return new PlayerTitleCache.CachedPlayer(data.titles(), data.selectedId(), data.version());
         });
         
-        plugin.getLogger().info("✅ Title Redis 핸들러 등록 완료");
+        if (replaced[0]) {
+            reloadingCounts.remove(uuid);
+            warmRenderCache(data);
+        } else if (playerCache.contains(uuid)) {
+            reloadPlayer(uuid);
+        }
+    }
+    
+    /** 보유/선택 칭호 렌더링 결과 미리 생성 */
+    private void warmRenderCache(TitleStorage.PlayerTitleData data) {
+        List<String> names = new ArrayList<>(data.titles().size());
+        data.titles().forEach((id, obtainedAt) -> {
+            String name = catalog.nameOf(id);
+            if (name != null) names.add(name);
+        });
+        renderCache.warm(names);
+        renderCache.get(nameOf(data.selectedId()));
+    }
+    
+    /** 칭호 ID → 이름 (0 또는 모르는 ID면 null) */
+    private String nameOf(int titleId) {
+        return titleId != 0 ? catalog.nameOf(titleId) : null;
+    }
+    
+    /**
+     * 플레이어의 모든 칭호 로드 (칭호 ID 기준, 개수/보유 여부 확인용)
+     */
+    public CompletableFuture<OwnedTitles> loadOwnedTitles(UUID uuid) {
+        // 로컬 캐시 확인 (없으면 재시작 스냅샷)
+        PlayerTitleCache.CachedPlayer cached = cachedOrRestored(uuid);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached.titles());
+        }
+        
+        // Storage에서 로드 (Redis → MySQL, 선택 칭호도 함께 캐시)
+        return loadShared(uuid).thenApply(TitleStorage.PlayerTitleData::titles);
     }
     
     /**
-     * 플레이어의 모든 칭호 로드
+     * 플레이어의 모든 칭호 로드 (이름 → 칭호, GUI 표시용)
+     * 호출할 때마다 새 Map을 만들므로 자주 부르는 경로에서는 loadOwnedTitles 사용
      */
     public CompletableFuture<Map<String, Title>> loadTitles(UUID uuid) {
-        // 로컬 캐시 확인
-        if (titleCache.containsKey(uuid)) {
-            return CompletableFuture.completedFuture(titleCache.get(uuid));
+        return loadOwnedTitles(uuid).thenApply(this::toTitleMap);
+    }
+    
+    private Map<String, Title> toTitleMap(OwnedTitles owned) {
+        Map<String, Title> titles = new HashMap<>(owned.size());
+        owned.forEach((id, obtainedAt) -> {
+            String name = catalog.nameOf(id);
+            if (name != null) titles.put(name, new Title(name, obtainedAt));
+        });
+        return titles;
+    }
+    
+    /**
+     * 저장소 로드 (UUID당 동시에 하나만)
+     * 이미 진행 중이면 같은 future를 반환하고, 끝나면 결과를 로컬 캐시에 저장
+     */
+    private CompletableFuture<TitleStorage.PlayerTitleData> loadShared(UUID uuid) {
+        PlayerTitleCache.CachedPlayer restored = restoreFromSnapshot(uuid);
+        if (restored != null) {
+            return CompletableFuture.completedFuture(
+                new TitleStorage.PlayerTitleData(restored.titles(), restored.selected(), restored.version()));
+        }
+        
+        InFlightLoad created = new InFlightLoad();
+        InFlightLoad existing = inFlightLoads.putIfAbsent(uuid, created);
+        if (existing != null) {
+            sharedLoads.increment();
+            return existing.future;
         }
         
-        // Storage에서 로드 (Redis → MySQL)
-        return storage.loadPlayerTitles(uuid).thenApply(titles -> {
-            titleCache.put(uuid, titles);
-            return titles;
+        startLoad(uuid, created, MAX_LOAD_ATTEMPTS);
+        return created.future;
+    }
+    
+    private void startLoad(UUID uuid, InFlightLoad load, int attemptsLeft) {
+        load.invalidated = false;
+        
+        CompletableFuture<TitleStorage.PlayerTitleData> attempt;
+        try {
+            attempt = storage.loadPlayerData(uuid);
+        } catch (Exception e) {
+            attempt = CompletableFuture.failedFuture(e);
+        }
+        
+        attempt.whenComplete((data, ex) -> {
+            if (ex != null) {
+                inFlightLoads.remove(uuid, load);
+                load.future.completeExceptionally(ex);
+                return;
+            }
+            
+            // 읽는 도중 쓰기/동기화 이벤트가 있었으면 오래된 결과일 수 있으므로 다시 읽음
+            if (!cacheIfCurrent(uuid, data, load) && attemptsLeft > 1) {
+                retriedLoads.increment();
+                startLoad(uuid, load, attemptsLeft - 1);
+                return;
+            }
+            
+            inFlightLoads.remove(uuid, load);
+            load.future.complete(data);
+        });
+    }
+    
+    /**
+     * 로드 결과 저장 (로드 시작 후 무효화되지 않았을 때만)
+     * 무효화 표시와 같은 키의 compute 안에서 확인하므로, 먼저 도착한 변경분을 덮어쓰지 않음
+     */
+    private boolean cacheIfCurrent(UUID uuid, TitleStorage.PlayerTitleData data, InFlightLoad load) {
+        boolean[] stored = {false};
+        playerCache.compute(uuid, (key, current) -> {
+            if (load.invalidated || (current != null && current.version() > data.version())) {
+                return current;
+            }
+            stored[0] = true;
+            return new PlayerTitleCache.CachedPlayer(data.titles(), data.selectedId(), data.version());
         });
+        
+        if (stored[0]) {
+            reloadingCounts.remove(uuid);
+            warmRenderCache(data);
+        }
+        return stored[0] || !load.invalidated;
+    }
+    
+    /**
+     * 진행 중인 로드에 변경 사실 표시 (쓰기 반영, 동기화 이벤트 수신 시 캐시 갱신 전에 호출)
+     */
+    private void invalidateInFlight(UUID uuid) {
+        InFlightLoad load = inFlightLoads.get(uuid);
+        if (load != null) {
+            load.invalidated = true;
+        }
+    }
+    
+    /**
+     * 진행 중인 로드
+     */
+    private static final class InFlightLoad {
+        final CompletableFuture<TitleStorage.PlayerTitleData> future = new CompletableFuture<>();
+        volatile boolean invalidated;
+    }
+    
+    /**
+     * 접속 전 캐시 예열 (AsyncPlayerPreLoginEvent 스레드에서 호출)
+     * 결과를 로컬 캐시에 넣어 접속 시점의 조회가 항상 캐시 적중하도록 함
+     */
+    public void warmUp(UUID uuid) {
+        if (isWarm(uuid)) {
+            return;
+        }
+        
+        try {
+            // 예열 스레드에서 기다림 (같은 플레이어의 다른 로드와 공유)
+            loadShared(uuid).join();
+            
+        } catch (Exception e) {
+            // 실패해도 접속은 막지 않음 (접속 후 비동기 로드로 폴백)
+            plugin.getLogger().warning("칭호 예열 실패 (" + uuid + "): " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 여러 플레이어 일괄 예열 (Redis 왕복 1회 + MySQL IN 쿼리)
+     * 캐시에 없고 로드 중이 아닌 플레이어만 묶어서 조회하며, 빠진 플레이어는 개별 로드로 재시도
+     *
+     * @return 일괄 조회로 캐시한 플레이어 수
+     */
+    public CompletableFuture<Integer> warmUpAll(Collection<UUID> uuids) {
+        Map<UUID, InFlightLoad> loads = new LinkedHashMap<>();
+        for (UUID uuid : uuids) {
+            if (isWarm(uuid) || restoreFromSnapshot(uuid) != null) continue;
+            
+            // 진행 중인 로드 자리를 먼저 차지 - 예열 도중의 개별 조회는 이 결과를 기다림
+            InFlightLoad load = new InFlightLoad();
+            if (inFlightLoads.putIfAbsent(uuid, load) == null) {
+                loads.put(uuid, load);
+            }
+        }
+        if (loads.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+        
+        long start = System.nanoTime();
+        return storage.loadPlayerDataBulk(loads.keySet()).handle((loaded, ex) -> {
+            if (ex != null) {
+                plugin.getLogger().warning("칭호 일괄 예열 실패: " + ex.getMessage());
+            }
+            
+            int cached = 0;
+            for (Map.Entry<UUID, InFlightLoad> entry : loads.entrySet()) {
+                UUID uuid = entry.getKey();
+                InFlightLoad load = entry.getValue();
+                TitleStorage.PlayerTitleData data = loaded != null ? loaded.get(uuid) : null;
+                
+                if (data != null && cacheIfCurrent(uuid, data, load)) {
+                    inFlightLoads.remove(uuid, load);
+                    load.future.complete(data);
+                    cached++;
+                } else {
+                    // 조회 실패, 또는 도중에 변경됨 - 같은 future로 개별 로드
+                    startLoad(uuid, load, MAX_LOAD_ATTEMPTS);
+                }
+            }
+            
+            plugin.getLogger().info("✅ Title 일괄 예열: %d/%d명 (%.1fms)".formatted(
+                cached, loads.size(), (System.nanoTime() - start) / 1_000_000.0));
+            return cached;
+        });
+    }
+    
+    /**
+     * 온라인(고정된) 플레이어 전체 예열 (플러그인 시작, 리로드, 캐시 초기화 후)
+     */
+    public CompletableFuture<Integer> warmUpOnline() {
+        return warmUpAll(playerCache.pinnedIds());
+    }
+    
+    /**
+     * 보유/선택 칭호가 모두 로컬 캐시에 있는지 확인
+     */
+    public boolean isWarm(UUID uuid) {
+        return playerCache.contains(uuid);
     }
     
     /**
@@ -93,61 +691,66 @@ public class TitleManager {
     public CompletableFuture<Boolean> addTitle(UUID uuid, String titleName) {
         return storage.addTitle(uuid, titleName).thenApply(success -> {
             if (success) {
-                // 로컬 캐시 무효화
-                titleCache.remove(uuid);
-                
-                // 멀티서버 동기화
-                if (redis.isEnabled()) {
-                    redis.publish("title-add:" + uuid + ":" + titleName);
-                }
+                // 로컬 캐시 갱신 (반영 시점에 칭호 ID가 정해져 있음)
+                long now = System.currentTimeMillis();
+                updateCachedTitles(uuid, titleName, titles -> titles.with(catalog.idOf(titleName), now));
+                renderCache.get(titleName);
             }
             return success;
         });
     }
     
+    /**
+     * 로컬 칭호 캐시 수정 (새 OwnedTitles로 교체)
+     * 캐시가 없는 온라인 플레이어, 칭호 ID를 모르는 경우는 다시 로드
+     */
+    private void updateCachedTitles(UUID uuid, String titleName, UnaryOperator<OwnedTitles> mutation) {
+        invalidateInFlight(uuid);
+        if (catalog.idOf(titleName) == null) {
+            reloadPlayer(uuid);
+            return;
+        }
+        
+        PlayerTitleCache.CachedPlayer updated = playerCache.computeIfPresent(uuid, (key, current) ->
+            current.withTitles(mutation));
+        
+        if (updated == null && playerCache.isPinned(uuid)) {
+            refreshTitleCount(uuid);
+        }
+    }
+    
     /**
      * 칭호 삭제 (영구 삭제, 칭호북 지급 없음)
      */
     public CompletableFuture<Boolean> deleteTitle(UUID uuid, String titleName) {
         return storage.deleteTitle(uuid, titleName).thenApply(success -> {
             if (success) {
-                // 로컬 캐시 무효화
-                titleCache.remove(uuid);
+                // 로컬 캐시 갱신
+                updateCachedTitles(uuid, titleName, titles -> titles.without(catalog.idOf(titleName)));
                 
-                // 선택된 칭호였다면 해제
-                String selected = selectedTitleCache.get(uuid);
-                if (titleName.equals(selected)) {
-                    setSelectedTitle(uuid, null);
-                }
-                
-                // 멀티서버 동기화
-                if (redis.isEnabled()) {
-                    redis.publish("title-remove:" + uuid + ":" + titleName);
-                }
+                // 선택된 칭호였다면 해제 (캐시에 없으면 조회 후 판단)
+                getSelectedTitle(uuid).thenAccept(selected -> {
+                    if (titleName.equals(selected)) {
+                        setSelectedTitle(uuid, null);
+                    }
+                });
             }
             return success;
         });
     }
     
-    /**
-     * 선택된 칭호 조회 (비동기) - 기본 메서드
-     */
     /**
      * 선택된 칭호 조회 (비동기)
      */
     public CompletableFuture<String> getSelectedTitle(UUID uuid) {
-        // 로컬 캐시 확인
-        if (selectedTitleCache.containsKey(uuid)) {
-            String cached = selectedTitleCache.get(uuid);
-            return CompletableFuture.completedFuture(cached.isEmpty() ? null : cached);
+        // 로컬 캐시 확인 (없으면 재시작 스냅샷)
+        PlayerTitleCache.CachedPlayer cached = cachedOrRestored(uuid);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(nameOf(cached.selected()));
         }
         
-        // Storage에서 비동기 로드
-        return storage.getSelectedTitle(uuid).thenApply(title -> {
-            // null은 빈 문자열로 저장 (ConcurrentHashMap은 null 불허)
-            selectedTitleCache.put(uuid, title != null ? title : "");
-            return title;
-        }).exceptionally(ex -> {
+        // Storage에서 비동기 로드 (보유 칭호도 함께 캐시)
+        return loadShared(uuid).thenApply(data -> nameOf(data.selectedId())).exceptionally(ex -> {
             plugin.getLogger().severe("칭호 조회 실패: " + ex.getMessage());
             return null;
         });
@@ -157,8 +760,8 @@ public class TitleManager {
      * 선택된 칭호 조회 (동기, PlaceholderAPI용)
      */
     public String getSelectedTitleSync(UUID uuid) {
-        String cached = selectedTitleCache.get(uuid);
-        return (cached != null && !cached.isEmpty()) ? cached : null;
+        PlayerTitleCache.CachedPlayer cached = cachedOrRestored(uuid);
+        return cached != null ? nameOf(cached.selected()) : null;
     }
     
     /**
@@ -166,13 +769,15 @@ public class TitleManager {
      */
     public CompletableFuture<Void> setSelectedTitle(UUID uuid, String titleName) {
         return storage.setSelectedTitle(uuid, titleName).thenRun(() -> {
-            // 로컬 캐시 업데이트 (null은 빈 문자열로)
-            selectedTitleCache.put(uuid, titleName != null ? titleName : "");
-            
-            // 멀티서버 동기화
-            if (redis.isEnabled()) {
-                redis.publish("title-select:" + uuid + ":" + (titleName != null ? titleName : "none"));
+            // 로컬 캐시 업데이트 (캐시된 플레이어만, 없으면 다음 조회 시 로드)
+            invalidateInFlight(uuid);
+            Integer titleId = titleName != null ? catalog.idOf(titleName) : null;
+            if (titleName != null && titleId == null) {
+                reloadPlayer(uuid);
+                return;
             }
+            playerCache.computeIfPresent(uuid, (key, current) -> current.withSelected(titleId != null ? titleId : 0));
+            renderCache.get(titleName);
         });
     }
     
@@ -180,9 +785,11 @@ public class TitleManager {
      * 칭호 보유 여부 확인
      */
     public CompletableFuture<Boolean> hasTitle(UUID uuid, String titleName) {
-        // 로컬 캐시 확인
-        if (titleCache.containsKey(uuid)) {
-            return CompletableFuture.completedFuture(titleCache.get(uuid).containsKey(titleName));
+        // 로컬 캐시 확인 (없으면 재시작 스냅샷)
+        PlayerTitleCache.CachedPlayer cached = cachedOrRestored(uuid);
+        if (cached != null) {
+            Integer titleId = catalog.idOf(titleName);
+            return CompletableFuture.completedFuture(titleId != null && cached.titles().contains(titleId));
         }
         
         // Storage에서 확인
@@ -193,7 +800,62 @@ public class TitleManager {
      * 보유 칭호 개수 조회
      */
     public CompletableFuture<Integer> getTitleCount(UUID uuid) {
-        return loadTitles(uuid).thenApply(Map::size);
+        return loadOwnedTitles(uuid).thenApply(OwnedTitles::size);
+    }
+    
+    /**
+     * 보유 칭호 개수 조회 (동기, PlaceholderAPI용)
+     * 절대 블로킹하지 않음 - 스냅샷이 없으면 백그라운드 로드 후 0 반환
+     */
+    public int getTitleCountSync(UUID uuid) {
+        PlayerTitleCache.CachedPlayer cached = cachedOrRestored(uuid);
+        if (cached != null) {
+            return cached.titles().size();
+        }
+        
+        refreshTitleCount(uuid);
+        Integer lastCount = reloadingCounts.get(uuid);
+        return lastCount != null ? lastCount : 0;
+    }
+    
+    /**
+     * 백그라운드 다시 로드 (플레이어당 동시에 하나만)
+     */
+    private void refreshTitleCount(UUID uuid) {
+        if (!countLoading.add(uuid)) {
+            return;
+        }
+        
+        // 로드는 저장소 실행기에서 진행 (호출 스레드를 막지 않음)
+        loadOwnedTitles(uuid).whenComplete((titles, ex) -> {
+            countLoading.remove(uuid);
+            reloadingCounts.remove(uuid);
+            
+            // 로드 중 접속 종료한 플레이어는 크기 제한 영역에 남아 자연히 정리됨
+            if (ex != null) {
+                plugin.getLogger().warning("칭호 개수 로드 실패: " + ex.getMessage());
+            }
+        });
+    }
+    
+    /** 재시작 스냅샷에서 꺼내 쓴 플레이어 수 */
+    public long getSnapshotHits() {
+        return snapshotHits.sum();
+    }
+    
+    /** 재시작 스냅샷 항목 중 확인 결과 달라서 교체한 수 */
+    public long getSnapshotStale() {
+        return snapshotStale.sum();
+    }
+    
+    /** 진행 중인 로드에 합류한 요청 수 */
+    public long getSharedLoads() {
+        return sharedLoads.sum();
+    }
+    
+    /** 로드 도중 변경이 있어 다시 읽은 횟수 */
+    public long getRetriedLoads() {
+        return retriedLoads.sum();
     }
     
     /**
@@ -202,54 +864,72 @@ public class TitleManager {
      * 칭호가 없으면 빈 문자열 반환 (대괄호 표시 안 함)
      */
     public String formatTitle(String titleName) {
-        if (titleName == null || titleName.isEmpty()) {
-            return ""; // 칭호 없으면 완전히 사라짐
-        }
-        
-        // Legacy 색상 코드 변환 (&a → §a)
-        String formatted = org.bukkit.ChatColor.translateAlternateColorCodes('&', titleName);
-        
-        // RGB 색상 코드 변환 (#RRGGBB → §x§R§R§G§G§B§B)
-        formatted = translateHexColorCodes(formatted);
-        
-        // 대괄호로 감싸고 리셋 + 공백 추가
-        return "[" + formatted + "§r] ";
+        return renderCache.get(titleName).formatted();
     }
     
     /**
-     * RGB 색상 코드 변환 (#RRGGBB → §x§R§R§G§G§B§B)
+     * 온라인 플레이어 캐시 고정 (접속 시)
      */
-    private String translateHexColorCodes(String message) {
-        java.util.regex.Pattern pattern = java.util.regex.Pattern.compile("#([A-Fa-f0-9]{6})");
-        java.util.regex.Matcher matcher = pattern.matcher(message);
-        
-        StringBuffer buffer = new StringBuffer(message.length() + 4 * 8);
-        while (matcher.find()) {
-            String group = matcher.group(1);
-            matcher.appendReplacement(buffer, "§x"
-                + "§" + group.charAt(0) + "§" + group.charAt(1)
-                + "§" + group.charAt(2) + "§" + group.charAt(3)
-                + "§" + group.charAt(4) + "§" + group.charAt(5)
-            );
+    public void pinCache(UUID uuid) {
+        pendingLogins.remove(uuid);
+        playerCache.pin(uuid);
+    }
+    
+    /**
+     * 접속 예정 플레이어 캐시 고정 (접속 전 예열 직전)
+     * 예열 결과가 크기 제한 영역에서 밀려나 접속 시점에 다시 로드하는 일이 없도록 함
+     */
+    public void reserveForLogin(UUID uuid) {
+        pendingLogins.put(uuid, System.currentTimeMillis());
+        playerCache.pin(uuid);
+    }
+    
+    /**
+     * 접속 예정 취소 (접속 거부 시) - 이미 접속 중인 같은 플레이어는 그대로 둠
+     */
+    public void cancelLogin(UUID uuid) {
+        if (pendingLogins.remove(uuid) != null && plugin.getServer().getPlayer(uuid) == null) {
+            playerCache.unpin(uuid);
         }
-        return matcher.appendTail(buffer).toString();
+    }
+    
+    /** 예열 후 일정 시간 안에 접속하지 않은 플레이어 고정 해제 (메인 스레드) */
+    private void expirePendingLogins() {
+        long deadline = System.currentTimeMillis() - PENDING_LOGIN_TIMEOUT_MS;
+        pendingLogins.forEach((uuid, reservedAt) -> {
+            if (reservedAt < deadline) {
+                cancelLogin(uuid);
+            }
+        });
+    }
+    
+    /**
+     * 캐시 고정 해제 (로그아웃 시)
+     * 크기 제한 영역으로 옮겨져 재접속 시 재사용되고, 오래 조회가 없으면 제거됨
+     */
+    public void unpinCache(UUID uuid) {
+        playerCache.unpin(uuid);
+        reloadingCounts.remove(uuid);
     }
     
     /**
-     * 플레이어 캐시 제거 (로그아웃 시)
+     * 플레이어 캐시 제거
      */
     public void removeCache(UUID uuid) {
-        titleCache.remove(uuid);
-        selectedTitleCache.remove(uuid);
+        playerCache.invalidate(uuid);
+        reloadingCounts.remove(uuid);
     }
     
     /**
      * 전체 캐시 초기화
      */
     public void clearAllCache() {
-        titleCache.clear();
-        selectedTitleCache.clear();
+        playerCache.invalidateAll();
+        reloadingCounts.clear();
         plugin.getLogger().info("✅ Title 캐시 초기화 완료");
+        
+        // 접속 중인 플레이어는 한 번에 다시 채움
+        warmUpOnline();
     }
     
     // ========================================
@@ -264,10 +944,21 @@ public class TitleManager {
     }
     
     /**
-     * 칭호가 최대 개수인지 확인 (54개)
+     * 플레이어당 최대 보유 칭호 수 (config titles.max-owned, 0 이하 = 제한 없음)
+     */
+    public int getMaxTitles() {
+        return plugin.getConfig().getInt("titles.max-owned", 0);
+    }
+    
+    /**
+     * 칭호가 최대 개수인지 확인 (제한이 없으면 항상 false)
      */
     public CompletableFuture<Boolean> isFull(UUID uuid) {
-        return getTitleCount(uuid).thenApply(count -> count >= 54);
+        int max = getMaxTitles();
+        if (max <= 0) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return getTitleCount(uuid).thenApply(count -> count >= max);
     }
     
     /**
@@ -0,0 +1,88 @@
+package com.dotorimaru.title.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 시간 히스토그램 (고정 구간, 잠금 없음)
+ * 구간 경계는 밀리초, Prometheus 출력 시 초 단위로 변환
+ */
+public class LatencyHistogram {
+
+    /** 구간 상한 (밀리초) - 마지막 구간 뒤는 +Inf */
+    static final double[] BOUNDS_MILLIS = {0.25, 0.5, 1, 2.5, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    private final LongAdder[] buckets = new LongAdder[BOUNDS_MILLIS.length + 1];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumNanos = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 측정값 기록 (나노초, 음수는 0으로)
+     */
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        double millis = value / 1_000_000.0;
+
+        int index = 0;
+        while (index < BOUNDS_MILLIS.length && millis > BOUNDS_MILLIS[index]) {
+            index++;
+        }
+        buckets[index].increment();
+        count.increment();
+        sumNanos.add(value);
+    }
+
+    /** 시작 시각(System.nanoTime)부터 지금까지 기록 */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public void recordMillis(long millis) {
+        record(millis * 1_000_000L);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getSumSeconds() {
+        return sumNanos.sum() / 1_000_000_000.0;
+    }
+
+    public double getAverageMillis() {
+        long n = count.sum();
+        return n == 0 ? 0.0 : sumNanos.sum() / 1_000_000.0 / n;
+    }
+
+    /** 구간별 누적 개수 (Prometheus le 형식, 마지막 = +Inf) */
+    long[] cumulativeCounts() {
+        long[] cumulative = new long[buckets.length];
+        long running = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            running += buckets[i].sum();
+            cumulative[i] = running;
+        }
+        return cumulative;
+    }
+
+    /**
+     * 분위수 근사 (해당 구간의 상한, 밀리초)
+     * 마지막 구간이면 마지막 경계를 반환
+     */
+    public double quantileMillis(double q) {
+        long[] cumulative = cumulativeCounts();
+        long total = cumulative[cumulative.length - 1];
+        if (total == 0) return 0.0;
+
+        long rank = (long) Math.ceil(q * total);
+        for (int i = 0; i < BOUNDS_MILLIS.length; i++) {
+            if (cumulative[i] >= rank) return BOUNDS_MILLIS[i];
+        }
+        return BOUNDS_MILLIS[BOUNDS_MILLIS.length - 1];
+    }
+}
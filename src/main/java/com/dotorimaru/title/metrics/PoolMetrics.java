@@ -0,0 +1,77 @@
+package com.dotorimaru.title.metrics;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HikariCP 연결 풀 지표 (HikariConfig.setMetricsTrackerFactory로 연결)
+ * 연결 대기/사용 시간과 풀 상태를 TitleMetrics에서 읽을 수 있게 보관
+ */
+public class PoolMetrics implements MetricsTrackerFactory {
+
+    private final LatencyHistogram acquireLatency = new LatencyHistogram();
+    private final LatencyHistogram usageLatency = new LatencyHistogram();
+    private final LongAdder timeouts = new LongAdder();
+
+    private volatile PoolStats poolStats;
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolStats = poolStats;
+
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquireLatency.record(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                usageLatency.recordMillis(elapsedBorrowedMillis);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeouts.increment();
+            }
+        };
+    }
+
+    /** getConnection() 대기 시간 */
+    public LatencyHistogram getAcquireLatency() {
+        return acquireLatency;
+    }
+
+    /** 연결을 빌려서 반납하기까지 걸린 시간 */
+    public LatencyHistogram getUsageLatency() {
+        return usageLatency;
+    }
+
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    public int getActiveConnections() {
+        PoolStats stats = poolStats;
+        return stats != null ? stats.getActiveConnections() : 0;
+    }
+
+    public int getIdleConnections() {
+        PoolStats stats = poolStats;
+        return stats != null ? stats.getIdleConnections() : 0;
+    }
+
+    /** 연결을 기다리는 스레드 수 */
+    public int getPendingThreads() {
+        PoolStats stats = poolStats;
+        return stats != null ? stats.getPendingThreads() : 0;
+    }
+
+    public int getMaxConnections() {
+        PoolStats stats = poolStats;
+        return stats != null ? stats.getMaxConnections() : 0;
+    }
+}
@@ -0,0 +1,246 @@
+package com.dotorimaru.title.metrics;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 메인 스레드 시간 예산 감시 (이벤트 핸들러, 플레이스홀더, 동기화 콜백)
+ * 작업별로 쓴 나노초를 틱 단위로 합산하고, 한 틱의 합이 예산을 넘으면 작업별 내역과 스택을 로그
+ *
+ * - 측정은 메인 스레드에서만 (다른 스레드의 플레이스홀더 요청 등은 틱 시간에 포함되지 않으므로 제외)
+ * - 틱 경계는 매 틱 실행되는 작업 하나로 나눔 (측정 구간이 없던 틱은 기록하지 않음)
+ * - 스택은 예산을 넘긴 구간이 끝나는 시점의 호출 경로, 로그 간격마다 한 번만 남김
+ */
+public class TickBudgetWatchdog {
+
+    /** 측정 대상 작업 (지표 라벨 = label) */
+    public enum Operation {
+        BOOK_USE("book_use"),
+        GUI_CLICK("gui_click"),
+        GUI_OPEN("gui_open"),
+        PLACEHOLDER("placeholder"),
+        SYNC_CALLBACK("sync_callback");
+
+        private final String label;
+
+        Operation(String label) {
+            this.label = label;
+        }
+
+        public String label() {
+            return label;
+        }
+    }
+
+    /** begin()이 측정하지 않을 때 돌려주는 값 (꺼짐/다른 스레드, 다른 구간 안) */
+    private static final long NOT_MEASURED = Long.MIN_VALUE;
+    private static final long NESTED = Long.MIN_VALUE + 1;
+    private static final int STACK_DEPTH = 12;
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    private final JavaPlugin plugin;
+
+    private volatile boolean enabled;
+    private volatile long budgetNanos;
+    private volatile long logIntervalMillis;
+
+    // 현재 틱 (메인 스레드 전용)
+    private final long[] tickNanos = new long[OPERATIONS.length];
+    private final int[] tickCalls = new int[OPERATIONS.length];
+    private long tickTotalNanos;
+    private int depth;
+    private Operation overBudgetOperation;
+    private StackTraceElement[] overBudgetStack;
+    private long lastLogMillis;
+
+    // 누적 지표
+    private final LongAdder[] totalNanos = adders();
+    private final LongAdder[] totalCalls = adders();
+    private final LongAdder overBudgetTicks = new LongAdder();
+    private final LatencyHistogram tickLatency = new LatencyHistogram();
+
+    private BukkitTask tickTask;
+
+    public TickBudgetWatchdog(JavaPlugin plugin) {
+        this.plugin = plugin;
+        configure();
+    }
+
+    private TickBudgetWatchdog() {
+        this.plugin = null;
+    }
+
+    /**
+     * 항상 꺼진 감시 (서버 없이 실행할 때 - 벤치마크 등, configure()/start()는 호출하지 않음)
+     */
+    public static TickBudgetWatchdog disabled() {
+        return new TickBudgetWatchdog();
+    }
+
+    private static LongAdder[] adders() {
+        LongAdder[] adders = new LongAdder[OPERATIONS.length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * config 다시 읽기 (시작, 리로드 시)
+     */
+    public void configure() {
+        enabled = plugin.getConfig().getBoolean("watchdog.enabled", true);
+        budgetNanos = (long) (Math.max(0.1, plugin.getConfig().getDouble("watchdog.tick-budget-ms", 2.0)) * 1_000_000L);
+        logIntervalMillis = Math.max(1, plugin.getConfig().getInt("watchdog.log-interval-seconds", 30)) * 1000L;
+    }
+
+    /**
+     * 틱 경계 작업 시작 (매 틱)
+     */
+    public void start() {
+        if (tickTask == null) {
+            tickTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this::endTick, 1L, 1L);
+        }
+    }
+
+    public void stop() {
+        if (tickTask != null) {
+            tickTask.cancel();
+            tickTask = null;
+        }
+    }
+
+    /**
+     * 구간 시작 - end()에 그대로 넘길 것
+     * 꺼져 있거나, 메인 스레드가 아니거나, 이미 다른 구간 안이면 측정하지 않음 (중복 합산 방지)
+     */
+    public long begin() {
+        if (!enabled || !Bukkit.isPrimaryThread()) {
+            return NOT_MEASURED;
+        }
+        if (depth++ > 0) {
+            return NESTED;
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * 구간 끝
+     */
+    public void end(Operation operation, long start) {
+        if (start == NOT_MEASURED) {
+            return;
+        }
+        depth--;
+        if (start == NESTED) {
+            return;
+        }
+
+        long elapsed = System.nanoTime() - start;
+        int index = operation.ordinal();
+        tickNanos[index] += elapsed;
+        tickCalls[index]++;
+        tickTotalNanos += elapsed;
+        totalNanos[index].add(elapsed);
+        totalCalls[index].increment();
+
+        // 이 틱에서 처음 예산을 넘긴 구간의 호출 경로 (로그할 때만)
+        if (tickTotalNanos > budgetNanos && overBudgetOperation == null) {
+            overBudgetOperation = operation;
+            if (System.currentTimeMillis() - lastLogMillis >= logIntervalMillis) {
+                overBudgetStack = Thread.currentThread().getStackTrace();
+            }
+        }
+    }
+
+    /**
+     * 구간 하나 측정하며 실행
+     */
+    public void run(Operation operation, Runnable task) {
+        long start = begin();
+        try {
+            task.run();
+        } finally {
+            end(operation, start);
+        }
+    }
+
+    /**
+     * 틱 마감 - 합산 기록, 예산 초과 시 로그 (로그 간격 안에서는 한 번만)
+     */
+    private void endTick() {
+        if (tickTotalNanos == 0) {
+            return;
+        }
+
+        tickLatency.record(tickTotalNanos);
+        if (overBudgetOperation != null) {
+            overBudgetTicks.increment();
+            long now = System.currentTimeMillis();
+            if (overBudgetStack != null && now - lastLogMillis >= logIntervalMillis) {
+                lastLogMillis = now;
+                logOverBudget();
+            }
+        }
+
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            tickNanos[i] = 0;
+            tickCalls[i] = 0;
+        }
+        tickTotalNanos = 0;
+        overBudgetOperation = null;
+        overBudgetStack = null;
+    }
+
+    private void logOverBudget() {
+        StringBuilder breakdown = new StringBuilder();
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            if (tickCalls[i] == 0) continue;
+            if (!breakdown.isEmpty()) breakdown.append(", ");
+            breakdown.append("%s %.2fms ×%d".formatted(OPERATIONS[i].label(), tickNanos[i] / 1_000_000.0, tickCalls[i]));
+        }
+
+        StringBuilder message = new StringBuilder("⏱️ 칭호 메인 스레드 예산 초과: %.2fms / %.2fms (%s) - 초과 시점: %s".formatted(
+                tickTotalNanos / 1_000_000.0, budgetNanos / 1_000_000.0, breakdown, overBudgetOperation.label()));
+
+        // 감시 클래스와 Thread.getStackTrace 프레임은 건너뜀
+        int printed = 0;
+        for (StackTraceElement frame : overBudgetStack) {
+            if (frame.getClassName().equals(Thread.class.getName())
+                    || frame.getClassName().equals(TickBudgetWatchdog.class.getName())) {
+                continue;
+            }
+            message.append("\n    at ").append(frame);
+            if (++printed >= STACK_DEPTH) break;
+        }
+        plugin.getLogger().warning(message.toString());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public double getBudgetMillis() {
+        return budgetNanos / 1_000_000.0;
+    }
+
+    public double getTotalSeconds(Operation operation) {
+        return totalNanos[operation.ordinal()].sum() / 1_000_000_000.0;
+    }
+
+    public long getCalls(Operation operation) {
+        return totalCalls[operation.ordinal()].sum();
+    }
+
+    public long getOverBudgetTicks() {
+        return overBudgetTicks.sum();
+    }
+
+    /** 측정 구간이 있던 틱의 플러그인 메인 스레드 시간 합 */
+    public LatencyHistogram getTickLatency() {
+        return tickLatency;
+    }
+}
@@ -0,0 +1,173 @@
+package com.dotorimaru.title.metrics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 칭호 시스템 지표 등록소
+ * 값은 각 컴포넌트가 들고 있고 (LongAdder, LatencyHistogram 등), 여기서는 읽는 방법만 등록
+ *
+ * - scrape()  : Prometheus 텍스트 형식 (/metrics)
+ * - summary() : /칭호관리 stats 출력용 한 줄 요약
+ */
+public class TitleMetrics {
+
+    public enum Type {
+        COUNTER, GAUGE, HISTOGRAM;
+
+        String id() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private record Sample(String labels, DoubleSupplier value, LatencyHistogram histogram) {
+    }
+
+    private record Family(String name, String help, Type type, List<Sample> samples) {
+    }
+
+    // 등록 순서 유지 (출력 순서)
+    private final Map<String, Family> families = new LinkedHashMap<>();
+
+    /**
+     * 누적 값 등록 (계속 증가하는 값)
+     *
+     * @param labels 이름, 값, 이름, 값... 순서
+     */
+    public TitleMetrics counter(String name, String help, DoubleSupplier value, String... labels) {
+        add(name, help, Type.COUNTER, new Sample(formatLabels(labels), value, null));
+        return this;
+    }
+
+    /**
+     * 현재 값 등록 (늘거나 줄어드는 값)
+     */
+    public TitleMetrics gauge(String name, String help, DoubleSupplier value, String... labels) {
+        add(name, help, Type.GAUGE, new Sample(formatLabels(labels), value, null));
+        return this;
+    }
+
+    /**
+     * 지연 시간 히스토그램 등록 (초 단위로 출력)
+     */
+    public TitleMetrics histogram(String name, String help, LatencyHistogram histogram, String... labels) {
+        add(name, help, Type.HISTOGRAM, new Sample(formatLabels(labels), null, histogram));
+        return this;
+    }
+
+    private synchronized void add(String name, String help, Type type, Sample sample) {
+        Family family = families.computeIfAbsent(name, key -> new Family(name, help, type, new CopyOnWriteArrayList<>()));
+        if (family.type() != type) {
+            throw new IllegalArgumentException("지표 종류가 다릅니다: " + name);
+        }
+        family.samples().add(sample);
+    }
+
+    private synchronized List<Family> snapshot() {
+        return new ArrayList<>(families.values());
+    }
+
+    /**
+     * Prometheus 텍스트 형식 (version 0.0.4)
+     */
+    public String scrape() {
+        StringBuilder out = new StringBuilder(4096);
+
+        for (Family family : snapshot()) {
+            out.append("# HELP ").append(family.name()).append(' ').append(family.help()).append('\n');
+            out.append("# TYPE ").append(family.name()).append(' ').append(family.type().id()).append('\n');
+
+            for (Sample sample : family.samples()) {
+                if (family.type() == Type.HISTOGRAM) {
+                    writeHistogram(out, family.name(), sample);
+                } else {
+                    writeLine(out, family.name(), sample.labels(), read(sample.value()));
+                }
+            }
+        }
+        return out.toString();
+    }
+
+    private static void writeHistogram(StringBuilder out, String name, Sample sample) {
+        LatencyHistogram histogram = sample.histogram();
+        long[] cumulative = histogram.cumulativeCounts();
+        String prefix = sample.labels().isEmpty() ? "" : sample.labels() + ",";
+
+        for (int i = 0; i < cumulative.length; i++) {
+            String le = i < LatencyHistogram.BOUNDS_MILLIS.length
+                    ? formatValue(LatencyHistogram.BOUNDS_MILLIS[i] / 1000.0)
+                    : "+Inf";
+            writeLine(out, name + "_bucket", prefix + "le=\"" + le + "\"", cumulative[i]);
+        }
+        writeLine(out, name + "_sum", sample.labels(), histogram.getSumSeconds());
+        writeLine(out, name + "_count", sample.labels(), cumulative[cumulative.length - 1]);
+    }
+
+    private static void writeLine(StringBuilder out, String name, String labels, double value) {
+        out.append(name);
+        if (!labels.isEmpty()) {
+            out.append('{').append(labels).append('}');
+        }
+        out.append(' ').append(formatValue(value)).append('\n');
+    }
+
+    /**
+     * 사람이 읽는 요약 (지표당 한 줄, 히스토그램은 건수/평균/p50/p99)
+     */
+    public List<String> summary() {
+        List<String> lines = new ArrayList<>();
+
+        for (Family family : snapshot()) {
+            for (Sample sample : family.samples()) {
+                String label = sample.labels().isEmpty() ? family.name() : family.name() + "{" + sample.labels() + "}";
+
+                if (family.type() == Type.HISTOGRAM) {
+                    LatencyHistogram histogram = sample.histogram();
+                    lines.add("%s n=%d avg=%.2fms p50≤%sms p99≤%sms".formatted(label, histogram.getCount(),
+                            histogram.getAverageMillis(), formatValue(histogram.quantileMillis(0.5)),
+                            formatValue(histogram.quantileMillis(0.99))));
+                } else {
+                    lines.add(label + " = " + formatValue(read(sample.value())));
+                }
+            }
+        }
+        return lines;
+    }
+
+    private static double read(DoubleSupplier value) {
+        try {
+            return value.getAsDouble();
+        } catch (RuntimeException e) {
+            // 아직 초기화되지 않은 컴포넌트 등
+            return Double.NaN;
+        }
+    }
+
+    private static String formatValue(double value) {
+        if (Double.isNaN(value)) return "NaN";
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+
+    private static String formatLabels(String... labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("라벨은 이름, 값 쌍이어야 합니다.");
+        }
+
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i < labels.length; i += 2) {
+            if (i > 0) out.append(',');
+            out.append(labels[i]).append("=\"")
+               .append(labels[i + 1].replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n"))
+               .append('"');
+        }
+        return out.toString();
+    }
+}
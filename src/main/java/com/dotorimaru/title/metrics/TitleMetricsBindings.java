@@ -0,0 +1,151 @@
+package com.dotorimaru.title.metrics;
+
+import com.dotorimaru.title.TitlePlugin;
+import com.dotorimaru.title.cache.PlayerTitleCache;
+import com.dotorimaru.title.database.TitleMySQLManager;
+import com.dotorimaru.title.database.TitleRedisCircuitBreaker;
+import com.dotorimaru.title.database.TitleRedisManager;
+import com.dotorimaru.title.database.TitleStorage;
+import com.dotorimaru.title.database.TitleStorageExecutor;
+import com.dotorimaru.title.database.TitleWriteBehindQueue;
+import com.dotorimaru.title.database.TitleWriteJournal;
+import com.dotorimaru.title.managers.TitleManager;
+
+/**
+ * 칭호 시스템 컴포넌트 지표를 TitleMetrics에 등록 (플러그인 활성화 시 한 번)
+ * 지표 이름은 Prometheus 관례 (title_ 접두사, 누적 값은 _total, 시간은 초)
+ */
+public final class TitleMetricsBindings {
+
+    private TitleMetricsBindings() {
+    }
+
+    public static TitleMetrics create(TitlePlugin plugin) {
+        TitleMetrics metrics = new TitleMetrics();
+        bindCache(metrics, plugin.getTitleManager(), plugin.getTitleStorage());
+        bindStorage(metrics, plugin.getTitleStorage());
+        bindMySQL(metrics, plugin.getMySQLManager());
+        bindRedis(metrics, plugin.getRedisManager(), plugin.getTitleStorage(), plugin.getTitleManager());
+        bindMainThread(metrics, plugin.getTickWatchdog());
+        return metrics;
+    }
+
+    /** 메인 스레드에서 쓴 시간 (작업별 누적 + 틱별 합) */
+    private static void bindMainThread(TitleMetrics metrics, TickBudgetWatchdog watchdog) {
+        for (TickBudgetWatchdog.Operation operation : TickBudgetWatchdog.Operation.values()) {
+            metrics.counter("title_main_thread_seconds_total", "Main thread time spent by operation",
+                            () -> watchdog.getTotalSeconds(operation), "operation", operation.label())
+                   .counter("title_main_thread_calls_total", "Measured main thread sections by operation",
+                            () -> watchdog.getCalls(operation), "operation", operation.label());
+        }
+        metrics.histogram("title_main_thread_tick_seconds", "Main thread time per tick (ticks with measured work only)",
+                        watchdog.getTickLatency())
+               .counter("title_main_thread_over_budget_ticks_total", "Ticks over watchdog.tick-budget-ms",
+                        watchdog::getOverBudgetTicks)
+               .gauge("title_main_thread_budget_seconds", "Configured per-tick budget",
+                        () -> watchdog.getBudgetMillis() / 1000.0);
+    }
+
+    /** 계층별 적중/미스 (local → redis → mysql) */
+    private static void bindCache(TitleMetrics metrics, TitleManager titleManager, TitleStorage storage) {
+        PlayerTitleCache cache = titleManager.getPlayerCache();
+        String lookups = "title_cache_lookups_total";
+        String help = "Player title lookups by cache tier and result";
+
+        metrics.counter(lookups, help, cache::getHits, "tier", "local", "result", "hit")
+               .counter(lookups, help, cache::getMisses, "tier", "local", "result", "miss")
+               .counter(lookups, help, storage::getRedisHits, "tier", "redis", "result", "hit")
+               .counter(lookups, help, storage::getRedisMisses, "tier", "redis", "result", "miss")
+               .counter(lookups, help, storage::getMysqlHits, "tier", "mysql", "result", "hit")
+               .counter(lookups, help, storage::getMysqlMisses, "tier", "mysql", "result", "miss");
+
+        metrics.gauge("title_cache_entries", "Players held in the local cache", cache::getPinnedSize, "region", "pinned")
+               .gauge("title_cache_entries", "Players held in the local cache", cache::getOfflineSize, "region", "offline")
+               .counter("title_cache_evictions_total", "Local cache evictions (size or expiry)", cache::getEvictions)
+               .counter("title_loads_shared_total", "Loads that joined an in-flight load", titleManager::getSharedLoads)
+               .counter("title_loads_retried_total", "Loads retried because a write raced them", titleManager::getRetriedLoads)
+               .counter("title_snapshot_restored_total", "Players restored from the restart snapshot", titleManager::getSnapshotHits)
+               .counter("title_snapshot_stale_total", "Restored players replaced after version check", titleManager::getSnapshotStale)
+               .gauge("title_render_cache_entries", "Rendered title strings", () -> titleManager.getRenderCache().size());
+    }
+
+    /** 저장소 작업별 지연 시간 */
+    private static void bindStorage(TitleMetrics metrics, TitleStorage storage) {
+        String name = "title_storage_operation_seconds";
+        String help = "Latency of title storage operations";
+        TitleWriteBehindQueue writeQueue = storage.getWriteQueue();
+
+        metrics.histogram(name, help, storage.getLoadLatency(), "operation", "load")
+               .histogram(name, help, storage.getBulkLoadLatency(), "operation", "load_bulk")
+               .histogram(name, help, storage.getRedisReadLatency(), "operation", "redis_read")
+               .histogram(name, help, storage.getMysqlLoadLatency(), "operation", "mysql_load")
+               .histogram(name, help, writeQueue.getFlushLatency(), "operation", "write_flush");
+
+        metrics.gauge("title_write_queue_depth", "Pending coalesced writes", writeQueue::getQueueDepth)
+               .counter("title_write_ops_total", "Writes enqueued", writeQueue::getEnqueuedOps, "stage", "enqueued")
+               .counter("title_write_ops_total", "Writes enqueued", writeQueue::getFlushedOps, "stage", "flushed")
+               .counter("title_write_flush_failures_total", "Failed write-behind flushes", writeQueue::getFailedFlushes)
+               .counter("title_write_dead_letters_total", "Writes given up after a non-retryable error", writeQueue::getDeadLettered);
+
+        TitleWriteJournal journal = writeQueue.getJournal();
+        metrics.counter("title_journal_records_total", "Write requests appended to the local journal", journal::getAppended)
+               .counter("title_journal_syncs_total", "Journal fsyncs (one per group commit)", journal::getSyncs)
+               .counter("title_journal_compactions_total", "Journal file compactions", journal::getCompactions)
+               .gauge("title_journal_unconfirmed", "Journaled writes not yet confirmed in MySQL", journal::getUnconfirmed)
+               .gauge("title_journal_backlog_bytes", "Size of journaled writes not yet confirmed in MySQL", journal::getBacklogBytes)
+               .gauge("title_journal_oldest_unconfirmed_seconds", "Age of the oldest unconfirmed journal record",
+                        journal::getOldestUnconfirmedAgeSeconds)
+               .histogram("title_journal_sync_seconds", "Journal group commit write + fsync time", journal.getSyncLatency());
+    }
+
+    /** 저장소 실행기 대기열 + Hikari 풀 */
+    private static void bindMySQL(TitleMetrics metrics, TitleMySQLManager mysql) {
+        TitleStorageExecutor executor = mysql.getExecutor();
+        PoolMetrics pool = mysql.getPoolMetrics();
+
+        metrics.gauge("title_executor_queue_depth", "Storage tasks waiting for a connection permit", executor::getQueueDepth)
+               .gauge("title_executor_active", "Storage tasks running", executor::getActive)
+               .counter("title_executor_tasks_total", "Storage tasks by outcome", executor::getCompleted, "result", "completed")
+               .counter("title_executor_tasks_total", "Storage tasks by outcome", executor::getFailed, "result", "failed")
+               .counter("title_executor_tasks_total", "Storage tasks by outcome", executor::getRejected, "result", "rejected")
+               .histogram("title_executor_wait_seconds", "Time storage tasks waited before running", executor.getWaitLatency());
+
+        metrics.histogram("title_mysql_pool_acquire_seconds", "Hikari getConnection wait time", pool.getAcquireLatency())
+               .histogram("title_mysql_pool_usage_seconds", "Time a Hikari connection was borrowed", pool.getUsageLatency())
+               .counter("title_mysql_pool_timeouts_total", "Hikari connection timeouts", pool::getTimeouts)
+               .gauge("title_mysql_pool_connections", "Hikari connections", pool::getActiveConnections, "state", "active")
+               .gauge("title_mysql_pool_connections", "Hikari connections", pool::getIdleConnections, "state", "idle")
+               .gauge("title_mysql_pool_pending_threads", "Threads waiting for a Hikari connection", pool::getPendingThreads);
+    }
+
+    /** Redis I/O + 동기화 */
+    private static void bindRedis(TitleMetrics metrics, TitleRedisManager redis, TitleStorage storage,
+                                  TitleManager titleManager) {
+        metrics.histogram("title_sync_lag_seconds", "Write request on the origin server to delta applied here",
+                titleManager.getSyncLag());
+
+        if (!redis.isEnabled() || redis.getPipeline() == null) {
+            return;
+        }
+
+        TitleRedisCircuitBreaker breaker = redis.getCircuitBreaker();
+        metrics.gauge("title_redis_circuit_state", "Redis circuit breaker state (0 closed, 1 open, 2 half-open)",
+                        () -> breaker.getState().ordinal())
+               .counter("title_redis_circuit_opened_total", "Times the Redis circuit breaker opened", breaker::getOpened)
+               .counter("title_redis_circuit_rejected_total", "Redis calls skipped while the circuit was open", breaker::getRejected)
+               .gauge("title_redis_stale_players", "Players written to MySQL only, waiting for Redis recovery",
+                        storage::getStaleInRedis);
+
+        metrics.histogram("title_redis_roundtrip_seconds", "MULTI/EXEC batch round trip", redis.getPipeline().getRoundTripLatency())
+               .gauge("title_redis_queue_depth", "Redis commands waiting for the I/O thread", redis.getPipeline()::getQueueDepth)
+               .counter("title_redis_commands_total", "Redis commands submitted", redis.getPipeline()::getSubmitted)
+               .counter("title_redis_commands_failed_total", "Redis commands failed", redis.getPipeline()::getFailed)
+               .counter("title_sync_events_total", "Sync events dispatched to handlers", redis.getDispatcher()::getDispatchedEvents,
+                       "direction", "received");
+
+        if (redis.getPublisher() != null) {
+            metrics.counter("title_sync_events_total", "Sync events dispatched to handlers", redis.getPublisher()::getPublishedEvents,
+                    "direction", "published");
+        }
+    }
+}
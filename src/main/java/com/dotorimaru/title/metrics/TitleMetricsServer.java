@@ -0,0 +1,92 @@
+package com.dotorimaru.title.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Prometheus 수집용 HTTP 엔드포인트 (JDK HttpServer, 127.0.0.1에만 바인딩)
+ * GET /metrics → TitleMetrics.scrape()
+ */
+public class TitleMetricsServer {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final JavaPlugin plugin;
+    private final TitleMetrics metrics;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public TitleMetricsServer(JavaPlugin plugin, TitleMetrics metrics) {
+        this.plugin = plugin;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 시작 (metrics.http.enabled가 false면 아무것도 하지 않음)
+     */
+    public void start() {
+        if (!plugin.getConfig().getBoolean("metrics.http.enabled", false)) {
+            return;
+        }
+
+        int port = plugin.getConfig().getInt("metrics.http.port", 9464);
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        } catch (IOException e) {
+            plugin.getLogger().warning("⚠️ Title 지표 HTTP 서버 시작 실패 (포트 %d): %s".formatted(port, e.getMessage()));
+            return;
+        }
+
+        executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "Title-Metrics-HTTP");
+            t.setDaemon(true);
+            return t;
+        });
+        server.setExecutor(executor);
+        server.createContext("/metrics", this::handle);
+        server.start();
+
+        plugin.getLogger().info("✅ Title 지표 엔드포인트: http://127.0.0.1:%d/metrics".formatted(port));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod()) && !"HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            byte[] body = metrics.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            if ("HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.dotorimaru.title.models;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 플레이어 보유 칭호 (불변, 칭호 ID 기준)
+ * 정렬된 int[] 칭호 ID + 같은 순서의 long[] 획득 시간
+ *
+ * - 칭호마다 객체/UUID/이름을 들고 있지 않음 (이름은 TitleCatalog에서 조회)
+ * - 개수는 배열 길이, 보유 여부는 이진 탐색 (보유 칭호 수가 적어 사실상 상수 시간)
+ * - 변경 시 새 객체로 교체 (다른 스레드가 읽는 중일 수 있음)
+ */
+public final class OwnedTitles {
+
+    public static final OwnedTitles EMPTY = new OwnedTitles(new int[0], new long[0]);
+
+    private final int[] ids;
+    private final long[] obtainedAt;
+
+    // 획득 순 색인 (처음 필요할 때 한 번 계산, 불변 객체라 이후 그대로 재사용)
+    private volatile int[] obtainOrder;
+
+    private OwnedTitles(int[] ids, long[] obtainedAt) {
+        this.ids = ids;
+        this.obtainedAt = obtainedAt;
+    }
+
+    /**
+     * 정렬되지 않은 배열로 생성 (앞에서 size개만 사용, 같은 ID가 있으면 마지막 값)
+     */
+    public static OwnedTitles of(int[] ids, long[] obtainedAt, int size) {
+        if (size == 0) return EMPTY;
+
+        long[] packed = new long[size];
+        for (int i = 0; i < size; i++) {
+            // 상위 32비트 = ID, 하위 32비트 = 원래 위치 → 정렬 후에도 같은 ID의 입력 순서 유지
+            packed[i] = ((long) ids[i] << 32) | i;
+        }
+        Arrays.sort(packed);
+
+        int[] sortedIds = new int[size];
+        long[] sortedTimes = new long[size];
+        int count = 0;
+        for (long entry : packed) {
+            int id = (int) (entry >>> 32);
+            long time = obtainedAt[(int) entry];
+            if (count > 0 && sortedIds[count - 1] == id) {
+                sortedTimes[count - 1] = time;
+            } else {
+                sortedIds[count] = id;
+                sortedTimes[count] = time;
+                count++;
+            }
+        }
+
+        return count == size
+                ? new OwnedTitles(sortedIds, sortedTimes)
+                : new OwnedTitles(Arrays.copyOf(sortedIds, count), Arrays.copyOf(sortedTimes, count));
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    public boolean contains(int id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    /** 획득 시간 (보유하지 않으면 -1) */
+    public long obtainedAt(int id) {
+        int index = Arrays.binarySearch(ids, id);
+        return index >= 0 ? obtainedAt[index] : -1L;
+    }
+
+    /** index번째 칭호 ID (ID 오름차순) */
+    public int idAt(int index) {
+        return ids[index];
+    }
+
+    /** index번째 칭호 획득 시간 */
+    public long obtainedAtIndex(int index) {
+        return obtainedAt[index];
+    }
+
+    /**
+     * 획득 시간 순(같으면 ID 순)으로 정렬한 위치 목록 - idAt/obtainedAtIndex에 넘길 index
+     * GUI 페이지는 이 색인에서 필요한 구간만 읽음
+     */
+    public int[] obtainOrder() {
+        int[] order = obtainOrder;
+        if (order == null) {
+            List<Integer> positions = new ArrayList<>(ids.length);
+            for (int i = 0; i < ids.length; i++) {
+                positions.add(i);
+            }
+            // 안정 정렬 - ID 오름차순이 같은 시간 안에서 그대로 유지됨
+            positions.sort(Comparator.comparingLong(i -> obtainedAt[i]));
+
+            order = new int[ids.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = positions.get(i);
+            }
+            obtainOrder = order;
+        }
+        return order;
+    }
+
+    /**
+     * 칭호 추가 (이미 있으면 획득 시간만 교체)
+     */
+    public OwnedTitles with(int id, long time) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index >= 0) {
+            if (obtainedAt[index] == time) return this;
+            long[] times = obtainedAt.clone();
+            times[index] = time;
+            return new OwnedTitles(ids, times);
+        }
+
+        int insert = -index - 1;
+        int[] newIds = new int[ids.length + 1];
+        long[] newTimes = new long[ids.length + 1];
+        System.arraycopy(ids, 0, newIds, 0, insert);
+        System.arraycopy(obtainedAt, 0, newTimes, 0, insert);
+        newIds[insert] = id;
+        newTimes[insert] = time;
+        System.arraycopy(ids, insert, newIds, insert + 1, ids.length - insert);
+        System.arraycopy(obtainedAt, insert, newTimes, insert + 1, ids.length - insert);
+        return new OwnedTitles(newIds, newTimes);
+    }
+
+    /**
+     * 칭호 제거 (없으면 그대로)
+     */
+    public OwnedTitles without(int id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index < 0) return this;
+        if (ids.length == 1) return EMPTY;
+
+        int[] newIds = new int[ids.length - 1];
+        long[] newTimes = new long[ids.length - 1];
+        System.arraycopy(ids, 0, newIds, 0, index);
+        System.arraycopy(obtainedAt, 0, newTimes, 0, index);
+        System.arraycopy(ids, index + 1, newIds, index, ids.length - index - 1);
+        System.arraycopy(obtainedAt, index + 1, newTimes, index, ids.length - index - 1);
+        return new OwnedTitles(newIds, newTimes);
+    }
+
+    /**
+     * 모든 칭호 순회 (ID 오름차순)
+     */
+    public void forEach(TitleConsumer consumer) {
+        for (int i = 0; i < ids.length; i++) {
+            consumer.accept(ids[i], obtainedAt[i]);
+        }
+    }
+
+    @FunctionalInterface
+    public interface TitleConsumer {
+        void accept(int id, long obtainedAt);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OwnedTitles other)) return false;
+        return Arrays.equals(ids, other.ids) && Arrays.equals(obtainedAt, other.obtainedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(ids) + Arrays.hashCode(obtainedAt);
+    }
+
+    @Override
+    public String toString() {
+        return "OwnedTitles" + Arrays.toString(ids);
+    }
+}
@@ -5,10 +5,9 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.util.UUID;
-
 /**
- * 칭호 데이터 모델
+ * 칭호 데이터 모델 (GUI/명령어 표시용)
+ * 캐시/저장에는 OwnedTitles(칭호 ID 배열)를 사용하고, 표시할 때만 이름과 함께 만듦
  */
 @Data
 @Builder
@@ -16,11 +15,6 @@ import java.util.UUID;
 @AllArgsConstructor
 public class Title {
     
-    /**
-     * 플레이어 UUID
-     */
-    private UUID playerUUID;
-    
     /**
      * 칭호 이름 (색상 코드 포함)
      * 예: &c&l전설의 용사, #FF5733전설
@@ -31,9 +25,4 @@ public class Title {
      * 획득 시간 (밀리초)
      */
     private long obtainedAt;
-    
-    /**
-     * 착용 여부
-     */
-    private boolean equipped;
 }
@@ -0,0 +1,94 @@
+package com.dotorimaru.title.models;
+
+import java.util.UUID;
+
+/**
+ * 멀티서버 칭호 동기화 이벤트 (변경분 + 플레이어별 버전)
+ *
+ * 메시지 형식: {action}:{uuid}:{version}:{timestamp}:{titleName}
+ * - title-add    : timestamp = 획득 시간
+ * - title-remove : timestamp = 삭제 시간
+ * - title-select : timestamp = 선택 시간, titleName이 비어 있으면 해제
+ *
+ * 구버전 형식({action}:{uuid}:{titleName})은 version = -1로 파싱되어 캐시 무효화로 처리
+ */
+public record TitleSyncEvent(Action action, UUID uuid, long version, long timestamp, String titleName) {
+
+    public static final long LEGACY_VERSION = -1L;
+
+    public enum Action {
+        ADD("title-add"),
+        REMOVE("title-remove"),
+        SELECT("title-select");
+
+        private final String id;
+
+        Action(String id) {
+            this.id = id;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        static Action fromId(String id) {
+            for (Action action : values()) {
+                if (action.id.equals(id)) return action;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 구버전(버전 없는) 메시지인지 확인
+     */
+    public boolean isLegacy() {
+        return version == LEGACY_VERSION;
+    }
+
+    /**
+     * 메시지 문자열로 변환
+     */
+    public String encode() {
+        return action.id + ":" + uuid + ":" + version + ":" + timestamp + ":" + (titleName != null ? titleName : "");
+    }
+
+    /**
+     * 메시지 파싱 (형식이 잘못되면 null)
+     */
+    public static TitleSyncEvent parse(String message) {
+        String[] parts = message.split(":", 5);
+        if (parts.length < 2) return null;
+
+        Action action = Action.fromId(parts[0]);
+        if (action == null) return null;
+
+        UUID uuid;
+        try {
+            uuid = UUID.fromString(parts[1]);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        if (parts.length == 5) {
+            try {
+                long version = Long.parseLong(parts[2]);
+                long timestamp = Long.parseLong(parts[3]);
+                return new TitleSyncEvent(action, uuid, version, timestamp, emptyToNull(parts[4]));
+            } catch (NumberFormatException ignored) {
+                // 콜론이 포함된 구버전 칭호 이름 - 아래에서 구버전으로 처리
+            }
+        }
+
+        // 구버전: {action}:{uuid}:{titleName}
+        String titleName = parts.length >= 3 ? message.substring(parts[0].length() + parts[1].length() + 2) : null;
+        if (action == Action.SELECT && "none".equals(titleName)) {
+            titleName = null;
+        }
+        return new TitleSyncEvent(action, uuid, LEGACY_VERSION, 0L, emptyToNull(titleName));
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
@@ -1,16 +1,13 @@
 package com.dotorimaru.title.placeholders;
 
 import com.dotorimaru.title.TitlePlugin;
+import com.dotorimaru.title.managers.TitleManager;
+import com.dotorimaru.title.metrics.TickBudgetWatchdog;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
-
 /**
  * PlaceholderAPI 확장
  * 
@@ -21,10 +18,21 @@ import java.util.concurrent.TimeoutException;
  */
 public class TitlePlaceholder extends PlaceholderExpansion {
     
-    private final TitlePlugin plugin;
+    private final TitleManager titleManager;
+    private final TickBudgetWatchdog watchdog;
+    private final String version;
     
     public TitlePlaceholder(TitlePlugin plugin) {
-        this.plugin = plugin;
+        this(plugin.getTitleManager(), plugin.getTickWatchdog(), plugin.getDescription().getVersion());
+    }
+    
+    /**
+     * 플러그인 없이 생성 (벤치마크)
+     */
+    TitlePlaceholder(TitleManager titleManager, TickBudgetWatchdog watchdog, String version) {
+        this.titleManager = titleManager;
+        this.watchdog = watchdog;
+        this.version = version;
     }
     
     @Override
@@ -39,7 +47,7 @@ public class TitlePlaceholder extends PlaceholderExpansion {
     
     @Override
     public @NotNull String getVersion() {
-        return plugin.getDescription().getVersion();
+        return version;
     }
     
     @Override
@@ -67,6 +75,15 @@ public class TitlePlaceholder extends PlaceholderExpansion {
             return "";
         }
         
+        long start = watchdog.begin();
+        try {
+            return request(player, identifier);
+        } finally {
+            watchdog.end(TickBudgetWatchdog.Operation.PLACEHOLDER, start);
+        }
+    }
+    
+    private String request(Player player, String identifier) {
         switch (identifier) {
             case "title":
                 return getSelectedTitleColored(player);
@@ -83,38 +100,24 @@ public class TitlePlaceholder extends PlaceholderExpansion {
      * 착용 중인 칭호 (색상 적용)
      */
     private String getSelectedTitleColored(Player player) {
-        String titleName = plugin.getTitleManager().getSelectedTitleSync(player.getUniqueId());
+        String titleName = titleManager.getSelectedTitleSync(player.getUniqueId());
         
-        if (titleName == null || titleName.isEmpty()) {
-            return "";
-        }
-        
-        // [칭호] 형식 - 대괄호는 항상 흰색
-        return "§f[" + plugin.colorize(titleName) + "§f] ";
+        // [칭호] 형식 - 대괄호는 항상 흰색 (렌더링 캐시, 칭호 없으면 빈 문자열)
+        return titleManager.getRenderCache().get(titleName).colored();
     }
     
     /**
      * 착용 중인 칭호 (색상 코드 그대로)
      */
     private String getSelectedTitleRaw(Player player) {
-        String titleName = plugin.getTitleManager().getSelectedTitleSync(player.getUniqueId());
-        return titleName == null ? "" : titleName;
+        String titleName = titleManager.getSelectedTitleSync(player.getUniqueId());
+        return titleManager.getRenderCache().get(titleName).raw();
     }
     
     /**
-     * 보유 칭호 개수
+     * 보유 칭호 개수 (스냅샷, 블로킹 없음)
      */
     private String getTitleCount(Player player) {
-        try {
-            CompletableFuture<Integer> future = plugin.getTitleManager()
-                    .getTitleCount(player.getUniqueId());
-            
-            Integer count = future.get(100, TimeUnit.MILLISECONDS);
-            
-            return String.valueOf(count == null ? 0 : count);
-            
-        } catch (InterruptedException | ExecutionException | TimeoutException e) {
-            return "0";
-        }
+        return String.valueOf(titleManager.getTitleCountSync(player.getUniqueId()));
     }
 }
@@ -0,0 +1,81 @@
+package com.dotorimaru.title.utils;
+
+import org.bukkit.ChatColor;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 색상 코드 변환 유틸리티
+ * 정규식은 클래스 로딩 시 한 번만 컴파일
+ */
+public final class ColorUtils {
+    
+    // &#RRGGBB (colorize 용)
+    private static final Pattern AMPERSAND_HEX_PATTERN = Pattern.compile("&#([A-Fa-f0-9]{6})");
+    
+    // #RRGGBB (formatTitle 용)
+    private static final Pattern HEX_PATTERN = Pattern.compile("#([A-Fa-f0-9]{6})");
+    
+    private ColorUtils() {
+    }
+    
+    /**
+     * 색상 코드 변환 (& → §, &#RRGGBB → §x§R§R§G§G§B§B)
+     */
+    public static String colorize(String text) {
+        if (text == null) return "";
+        
+        // RGB 색상 지원: &#RRGGBB 형식을 §x§R§R§G§G§B§B로 변환
+        text = replaceHex(AMPERSAND_HEX_PATTERN, text);
+        
+        // Legacy 색상 코드: & → §
+        return text.replace('&', '§');
+    }
+    
+    /**
+     * 칭호 포맷팅 (채팅 출력용)
+     * Legacy (&) + RGB (#RRGGBB) 색상 지원
+     * 칭호가 없으면 빈 문자열 반환 (대괄호 표시 안 함)
+     */
+    public static String formatTitle(String titleName) {
+        if (titleName == null || titleName.isEmpty()) {
+            return "";
+        }
+        
+        // Legacy 색상 코드 변환 (&a → §a)
+        String formatted = ChatColor.translateAlternateColorCodes('&', titleName);
+        
+        // RGB 색상 코드 변환 (#RRGGBB → §x§R§R§G§G§B§B)
+        formatted = translateHexColorCodes(formatted);
+        
+        // 대괄호로 감싸고 리셋 + 공백 추가
+        return "[" + formatted + "§r] ";
+    }
+    
+    /**
+     * RGB 색상 코드 변환 (#RRGGBB → §x§R§R§G§G§B§B)
+     */
+    public static String translateHexColorCodes(String message) {
+        return replaceHex(HEX_PATTERN, message);
+    }
+    
+    private static String replaceHex(Pattern pattern, String text) {
+        Matcher matcher = pattern.matcher(text);
+        if (!matcher.find()) {
+            return text; // 대부분의 칭호는 RGB 코드가 없으므로 바로 반환
+        }
+        
+        StringBuilder buffer = new StringBuilder(text.length() + 4 * 8);
+        do {
+            String hex = matcher.group(1);
+            StringBuilder replacement = new StringBuilder(14).append("§x");
+            for (int i = 0; i < hex.length(); i++) {
+                replacement.append('§').append(hex.charAt(i));
+            }
+            matcher.appendReplacement(buffer, replacement.toString());
+        } while (matcher.find());
+        
+        return matcher.appendTail(buffer).toString();
+    }
+}
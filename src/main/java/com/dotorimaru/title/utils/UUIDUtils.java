@@ -0,0 +1,26 @@
+package com.dotorimaru.title.utils;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * UUID ↔ BINARY(16) 변환 유틸리티
+ * 상위 8바이트 + 하위 8바이트 (빅 엔디언) - MySQL의 UNHEX(REPLACE(uuid, '-', ''))와 같은 값
+ */
+public final class UUIDUtils {
+
+    private UUIDUtils() {
+    }
+
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+            .putLong(uuid.getMostSignificantBits())
+            .putLong(uuid.getLeastSignificantBits())
+            .array();
+    }
+
+    public static UUID fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}